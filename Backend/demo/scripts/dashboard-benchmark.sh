@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Compares the login sequence the frontend makes today (household, then
+# inventory, needed items and favorites) with one /dashboard call.
+# Reports p50/p99 latency in ms for each.
+#
+# Usage: dashboard-benchmark.sh <userId> [iterations] [baseUrl]
+
+set -euo pipefail
+
+USER_ID="$1"
+ITERATIONS="${2:-200}"
+BASE="${3:-http://localhost:8080}/api/users"
+
+# Prints the time_total of one request in ms
+timed_get() {
+    curl -sf -o /dev/null -w '%{time_total}\n' "$1" | awk '{ printf "%.3f\n", $1 * 1000 }'
+}
+
+# Sum of the four request times; process start-up of curl is excluded like in timed_get
+four_calls() {
+    local response household_id household_ms
+    response=$(curl -sf -w '\n%{time_total}' "${BASE}/${USER_ID}/household")
+    household_ms=$(tail -n1 <<< "${response}" | awk '{ printf "%.3f", $1 * 1000 }')
+    household_id=$(head -n1 <<< "${response}" | sed -E 's/.*"id":([0-9]+).*/\1/')
+    {
+        echo "${household_ms}"
+        timed_get "${BASE}/household/${household_id}/inventory"
+        timed_get "${BASE}/household/${household_id}/needed"
+        timed_get "${BASE}/${USER_ID}/favorites"
+    } | awk '{ total += $1 } END { printf "%.3f\n", total }'
+}
+
+percentiles() {
+    sort -n | awk '{ v[NR] = $1 } END {
+        p50 = v[int((NR - 1) * 0.50) + 1]; p99 = v[int((NR - 1) * 0.99) + 1]
+        printf "p50 %8.2f ms   p99 %8.2f ms   (n=%d)\n", p50, p99, NR }'
+}
+
+# Warm up connection pools and JIT before measuring
+for _ in $(seq 20); do
+    four_calls > /dev/null
+    timed_get "${BASE}/${USER_ID}/dashboard" > /dev/null
+done
+
+printf '%-12s ' "four calls"
+for _ in $(seq "${ITERATIONS}"); do four_calls; done | percentiles
+
+printf '%-12s ' "dashboard"
+for _ in $(seq "${ITERATIONS}"); do timed_get "${BASE}/${USER_ID}/dashboard"; done | percentiles
@@ -0,0 +1,58 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request: wall-clock from JVM launch until
+# /api/foods/health first answers 200. Compares a plain start with the
+# AOT + CDS start produced by the prod profile.
+#
+# Usage: startup-benchmark.sh <extracted-dir> <jar-name> [runs] [port]
+
+set -euo pipefail
+
+DIR="$1"
+JAR="$2"
+RUNS="${3:-3}"
+PORT="${4:-18080}"
+URL="http://localhost:${PORT}/api/foods/health"
+
+# Epoch millis; date +%s%3N is GNU-only and prints garbage on macOS
+now_ms() {
+    perl -MTime::HiRes=time -e 'printf "%d\n", time() * 1000'
+}
+
+# Starts the app with the given JVM flags and prints ms until the first successful request
+measure() {
+    local start pid elapsed
+    start=$(now_ms)
+    java "$@" -Dspring.profiles.active=prod -jar "${DIR}/${JAR}" --server.port="${PORT}" \
+        > "${DIR}/startup-benchmark.log" 2>&1 &
+    pid=$!
+
+    until curl -sf -o /dev/null "${URL}"; do
+        if ! kill -0 "${pid}" 2>/dev/null; then
+            echo "Application exited before serving a request, see ${DIR}/startup-benchmark.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    kill "${pid}"
+    wait "${pid}" 2>/dev/null || true
+    echo "${elapsed}"
+}
+
+report() {
+    local label="$1"
+    shift
+    local times=() total=0 t
+    for _ in $(seq "${RUNS}"); do
+        t=$(measure "$@")
+        times+=("${t}")
+        total=$(( total + t ))
+    done
+    printf '%-12s time-to-first-request: avg %5d ms  runs: %s\n' \
+        "${label}" $(( total / RUNS )) "${times[*]}"
+}
+
+echo "Startup benchmark (${RUNS} runs each, ${URL})"
+report "baseline"
+report "aot+cds" -XX:SharedArchiveFile="${DIR}/application.jsa" -Dspring.aot.enabled=true
@@ -0,0 +1,25 @@
+package FoodApplication.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails startup when read/write splitting is requested but the AOT-processed
+ * context was built without it. Spring AOT fixes @ConditionalOnProperty at
+ * build time, so otherwise every read would silently go to the primary.
+ */
+@Component
+public class DataSourceRoutingAotCheck {
+
+    public DataSourceRoutingAotCheck(Environment environment, ListableBeanFactory beanFactory) {
+        boolean requested = environment.getProperty("app.datasource.routing.enabled", Boolean.class, false);
+        boolean present = beanFactory.getBeanNamesForType(ReplicaRoutingDataSource.class, false, false).length > 0;
+        if (requested && !present && AotDetector.useGeneratedArtifacts()) {
+            throw new IllegalStateException("app.datasource.routing.enabled=true, but this AOT build was processed "
+                    + "with routing off. Rebuild with mvn -Pprod -Daot.routing.enabled=true or run without "
+                    + "-Dspring.aot.enabled=true.");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package FoodApplication.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting, enabled with app.datasource.routing.enabled=true.
+ * Writes and normal transactions use spring.datasource.*; transactions marked
+ * readOnly = true use one of app.datasource.replicas[*].
+ *
+ * The condition is evaluated when Spring AOT runs, not at startup, so an AOT
+ * build only routes if it was processed with routing on (mvn -Pprod
+ * -Daot.routing.enabled=true). DataSourceRoutingAotCheck refuses to start an
+ * AOT build that was processed without it when routing is requested.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource")
+    public DataSourceRoutingProperties dataSourceRoutingProperties() {
+        return new DataSourceRoutingProperties();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+                                                             DataSourceRoutingProperties routingProperties) {
+        DataSource primary = primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource ds = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            ds.setReadOnly(true);
+            replicas.add(ds);
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, routingProperties.getMaxLagSeconds());
+    }
+
+    /**
+     * The DataSource everything else sees. Lazy connections let the routing
+     * decision wait until the transaction's read-only flag has been set.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        // Known up front so the proxy never has to open a connection just to find out
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesConfigurer(DataSourceRoutingProperties routingProperties) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ReadYourWritesInterceptor(routingProperties.getStickyMillis()))
+                        .addPathPatterns("/api/users/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package FoodApplication.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings under app.datasource.* for read-replica routing.
+ * The primary keeps using the regular spring.datasource.* properties.
+ */
+public class DataSourceRoutingProperties {
+
+    /**
+     * Connection settings for one read replica
+     */
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas further behind than this are skipped and reads go to the primary
+    private double maxLagSeconds = 5;
+
+    // How long a client keeps reading from the primary after a write
+    private long stickyMillis = 10_000;
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public double getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    public void setMaxLagSeconds(double maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public long getStickyMillis() {
+        return stickyMillis;
+    }
+
+    public void setStickyMillis(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+}
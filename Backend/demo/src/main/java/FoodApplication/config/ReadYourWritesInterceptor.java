@@ -0,0 +1,70 @@
+package FoodApplication.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+
+/**
+ * Keeps a client's reads on the primary for a short while after it changes
+ * favorites, inventory or needed items, so it never sees a replica that hasn't
+ * caught up with its own write yet.
+ *
+ * The write time travels with the client in a cookie rather than living in this
+ * instance, so it holds behind a load balancer and for every mutating endpoint,
+ * including the ones addressed only by item id.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    static final String LAST_WRITE_COOKIE = "last_write";
+
+    private final long stickyMillis;
+
+    public ReadYourWritesInterceptor(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            if (wroteRecently(request)) {
+                ReplicaRoutingDataSource.forcePrimary(true);
+            }
+            return true;
+        }
+
+        // Set before the handler runs; the response may already be committed by afterCompletion
+        ResponseCookie cookie = ResponseCookie.from(LAST_WRITE_COOKIE, Long.toString(System.currentTimeMillis()))
+                .path("/api")
+                .maxAge(Duration.ofMillis(stickyMillis).plusSeconds(1))
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingDataSource.forcePrimary(false);
+    }
+
+    private boolean wroteRecently(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, LAST_WRITE_COOKIE);
+        if (cookie == null) {
+            return false;
+        }
+        try {
+            long lastWrite = Long.parseLong(cookie.getValue());
+            return System.currentTimeMillis() - lastWrite < stickyMillis;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package FoodApplication.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy, caught-up replica and everything
+ * else to the primary. Must sit behind a LazyConnectionDataSourceProxy so the
+ * read-only flag is known before a connection is picked. Closes the pools it
+ * routes to when the context shuts down.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    // Whether the server is a standby at all, and its lag. Received == replayed only means
+    // caught up while the WAL receiver is streaming; a disconnected standby freezes both LSNs.
+    // Otherwise the lag is the age of the last replayed commit, and NULL (unknown) if none.
+    // Reading pg_stat_wal_receiver.status needs pg_read_all_stats (or superuser).
+    private static final String LAG_SQL =
+            "SELECT pg_is_in_recovery(), CASE " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() " +
+            " AND EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    // Set per request when the caller wrote recently and must read its own writes
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    /**
+     * One replica plus its last health-check result
+     */
+    private static class ReplicaState {
+        final String key;
+        final JdbcTemplate jdbcTemplate;
+        volatile boolean healthy; // not used until the first health check passes
+        volatile double lagSeconds;
+
+        ReplicaState(String key, DataSource dataSource) {
+            this.key = key;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.jdbcTemplate.setQueryTimeout(2);
+        }
+    }
+
+    private final List<ReplicaState> replicas = new ArrayList<>();
+    private final List<DataSource> pools = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final double maxLagSeconds;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, double maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+        pools.add(primary);
+        pools.addAll(replicaDataSources);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            ReplicaState replica = new ReplicaState("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replicaDataSources.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            return PRIMARY;
+        }
+
+        // Round-robin over the usable replicas, falling back to the primary when none qualify
+        int n = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(n, 1));
+        for (int i = 0; i < n; i++) {
+            ReplicaState replica = replicas.get((start + i) % n);
+            if (replica.healthy && replica.lagSeconds <= maxLagSeconds) {
+                return replica.key;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Probes every replica for reachability and replication lag
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-ms:5000}")
+    public void checkReplicas() {
+        for (ReplicaState replica : replicas) {
+            try {
+                // null when the server is not a standby, e.g. a second independent primary;
+                // infinite when its lag can't be told, so it is skipped like a lagging one
+                Double lag = replica.jdbcTemplate.queryForObject(LAG_SQL, (rs, rowNum) -> {
+                    if (!rs.getBoolean(1)) {
+                        return null;
+                    }
+                    double seconds = rs.getDouble(2);
+                    return rs.wasNull() ? Double.POSITIVE_INFINITY : seconds;
+                });
+                if (lag == null) {
+                    if (replica.healthy) {
+                        System.err.println("Read replica " + replica.key + " is not in recovery, not routing reads to it");
+                    }
+                    replica.healthy = false;
+                    continue;
+                }
+                replica.lagSeconds = lag;
+                replica.healthy = true;
+            } catch (Exception e) {
+                if (replica.healthy) {
+                    System.err.println("Read replica " + replica.key + " is down: " + e.getMessage());
+                }
+                replica.healthy = false;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource pool : pools) {
+            if (pool instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public static void forcePrimary(boolean force) {
+        if (force) {
+            FORCE_PRIMARY.set(Boolean.TRUE);
+        } else {
+            FORCE_PRIMARY.remove();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package FoodApplication.controller;
 
 import FoodApplication.model.Food;
 import FoodApplication.repo.RecipesRepo;
+import FoodApplication.service.CatalogSnapshotService;
 import FoodApplication.service.RecipesExcelService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,20 +16,25 @@ public class FoodController {
 
     private final RecipesRepo recipesRepo;
     private final RecipesExcelService recipesExcelService;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public FoodController(RecipesRepo recipesRepo, RecipesExcelService recipesExcelService) {
+    public FoodController(RecipesRepo recipesRepo, RecipesExcelService recipesExcelService,
+                          CatalogSnapshotService catalogSnapshotService) {
         this.recipesRepo = recipesRepo;
         this.recipesExcelService = recipesExcelService;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
     /**
      * GET /api/foods
-     * Fetches all foods from the PostgreSQL database
+     * Fetches all foods from the catalog snapshot, or PostgreSQL if there is none
      */
     @GetMapping
     public ResponseEntity<List<Food>> getAllFoods() {
         try {
-            List<Food> foods = recipesRepo.findAll();
+            List<Food> foods = catalogSnapshotService.isLoaded()
+                    ? catalogSnapshotService.findAll()
+                    : recipesRepo.findAll();
             return ResponseEntity.ok(foods);
         } catch (Exception e) {
             e.printStackTrace();
@@ -42,6 +48,10 @@ public class FoodController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<Food> getFoodById(@PathVariable Long id) {
+        if (catalogSnapshotService.isLoaded()) {
+            Food food = catalogSnapshotService.findById(id);
+            return food != null ? ResponseEntity.ok(food) : ResponseEntity.notFound().build();
+        }
         return recipesRepo.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -54,7 +64,9 @@ public class FoodController {
     @GetMapping("/search")
     public ResponseEntity<List<Food>> searchFoodsByName(@RequestParam String name) {
         try {
-            List<Food> foods = recipesRepo.findByNameContainingIgnoreCase(name);
+            List<Food> foods = catalogSnapshotService.isLoaded()
+                    ? catalogSnapshotService.findByNameContainingIgnoreCase(name)
+                    : recipesRepo.findByNameContainingIgnoreCase(name);
             return ResponseEntity.ok(foods);
         } catch (Exception e) {
             e.printStackTrace();
@@ -64,7 +76,7 @@ public class FoodController {
 
     /**
      * GET /api/foods/import
-     * Imports recipes.xlsx into PostgreSQL (for initial setup)
+     * Imports recipes.xlsx into PostgreSQL (for initial setup) and rewrites the catalog snapshot
      * This is kept from your original code in case you need it
      */
     @GetMapping("/import")
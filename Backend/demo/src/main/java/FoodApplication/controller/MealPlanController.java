@@ -0,0 +1,85 @@
+package FoodApplication.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import FoodApplication.model.MealPlan;
+import FoodApplication.service.MealPlanService;
+
+@RestController
+@RequestMapping("/api/mealplans")
+@CrossOrigin(origins = "http://localhost:5173")
+public class MealPlanController {
+
+    private static final long MAX_BUDGET_MS = 2000;
+    // Each category adds 7 x count slots and a row of the slot/food cost matrix per slot
+    private static final int MAX_CATEGORIES = 10;
+    private static final int MAX_MEALS_PER_DAY = 10;
+
+    private final MealPlanService mealPlanService;
+
+    public MealPlanController(MealPlanService mealPlanService) {
+        this.mealPlanService = mealPlanService;
+    }
+
+    /**
+     * GET /api/mealplans/generate?userId=...&householdId=...&targets=Protein:2,Omega-3:1&minimizeCost=true&budgetMs=200
+     * Generates a 7-day plan; targets are meals per day for each nutrition category
+     */
+    @GetMapping("/generate")
+    public ResponseEntity<MealPlan> generateMealPlan(
+        @RequestParam(required = false) String userId,
+        @RequestParam(required = false) Integer householdId,
+        @RequestParam(required = false) String targets,
+        @RequestParam(defaultValue = "false") boolean minimizeCost,
+        @RequestParam(defaultValue = "200") long budgetMs
+    ) {
+        Map<String, Integer> parsedTargets;
+        try {
+            parsedTargets = parseTargets(targets);
+            if (userId != null) {
+                UUID.fromString(userId);
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            long budget = Math.max(10, Math.min(budgetMs, MAX_BUDGET_MS));
+            return ResponseEntity.ok(mealPlanService.generate(userId, householdId, parsedTargets, minimizeCost, budget));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    // "Protein:2,Omega-3:1" -> {Protein=2, Omega-3=1}; a category without a count means 1
+    private Map<String, Integer> parseTargets(String targets) {
+        Map<String, Integer> parsed = new LinkedHashMap<>();
+        if (targets == null || targets.isBlank()) {
+            return parsed;
+        }
+        for (String part : targets.split(",")) {
+            String[] kv = part.split(":");
+            String category = kv[0].trim();
+            if (category.isEmpty()) continue;
+            int count = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            if (count < 0 || count > MAX_MEALS_PER_DAY) {
+                throw new IllegalArgumentException("Meals per day must be between 0 and " + MAX_MEALS_PER_DAY);
+            }
+            parsed.put(category, count);
+            if (parsed.size() > MAX_CATEGORIES) {
+                throw new IllegalArgumentException("At most " + MAX_CATEGORIES + " categories");
+            }
+        }
+        return parsed;
+    }
+}
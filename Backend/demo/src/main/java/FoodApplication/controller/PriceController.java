@@ -1,54 +1,37 @@
 package FoodApplication.controller;
 
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.openqa.selenium.By;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import java.time.Duration;
+
+import FoodApplication.model.BasketResult;
+import FoodApplication.model.PriceResult;
+import FoodApplication.service.BasketService;
+import FoodApplication.service.PricePrewarmService;
+import FoodApplication.service.PriceService;
 
 @RestController
 @RequestMapping("/api/prices")
 @CrossOrigin(origins = "http://localhost:5173")
 public class PriceController {
 
-    /**
-     * Price result model
-     */
-    public static class PriceResult {
-        public String store;
-        public Double price;
-        public String unit;
-        public String distance;
-        public String logo;
-        public String productUrl;
+    private final PriceService priceService;
+    private final PricePrewarmService pricePrewarmService;
+    private final BasketService basketService;
 
-        public PriceResult(String store, Double price, String unit, String distance, String logo, String productUrl) {
-            this.store = store;
-            this.price = price;
-            this.unit = unit;
-            this.distance = distance;
-            this.logo = logo;
-            this.productUrl = productUrl;
-        }
+    public PriceController(PriceService priceService, PricePrewarmService pricePrewarmService,
+                           BasketService basketService) {
+        this.priceService = priceService;
+        this.pricePrewarmService = pricePrewarmService;
+        this.basketService = basketService;
     }
 
     /**
@@ -56,20 +39,8 @@ public class PriceController {
      */
     @GetMapping("/search")
     public ResponseEntity<List<PriceResult>> searchPrices(@RequestParam String query) {
-        List<PriceResult> results = new ArrayList<>();
-
         try {
-            // Search Walmart Canada
-            results.addAll(searchWalmartCanada(query));
-            
-            // You can add more stores here
-            // results.addAll(searchLoblaws(query));
-            // results.addAll(searchMetro(query));
-
-            // Sort by price (lowest first)
-            results.sort(Comparator.comparing(r -> r.price));
-
-            return ResponseEntity.ok(results);
+            return ResponseEntity.ok(priceService.search(query));
         } catch (Exception e) {
             e.printStackTrace();
             // Return empty list on error
@@ -78,69 +49,36 @@ public class PriceController {
     }
 
     /**
-     * Search Walmart Canada
+     * Cheapest way to buy a household's whole needed-items list.
+     * maxStores limits how many stores the plan may use (1 = single-store trip).
      */
-    private List<PriceResult> searchWalmartCanada(String query) {
-        List<PriceResult> results = new ArrayList<>();
-        
-        // 1. Setup Chrome in Headless mode (runs in background)
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless"); 
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.addArguments("user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/121.0.0.0 Safari/537.36");
-
-        WebDriver driver = new ChromeDriver(options);
-
+    @GetMapping("/basket/{householdId}")
+    public ResponseEntity<BasketResult> optimizeBasket(
+        @PathVariable Integer householdId,
+        @RequestParam(required = false) Integer maxStores
+    ) {
         try {
-            String searchUrl = "https://www.walmart.ca/search?q=" + query.replace(" ", "+");
-            driver.get(searchUrl);
-
-            // 2. Wait up to 10 seconds for the product tiles to appear
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("div[data-testid='item-stack']")));
-
-            // 3. Find elements using Selenium (same logic, but better access)
-            List<WebElement> products = driver.findElements(By.cssSelector("div[data-testid='product-stack-tile']"));
-
-            for (int i = 0; i < Math.min(products.size(), 3); i++) {
-                WebElement product = products.get(i);
-                try {
-                    String name = product.findElement(By.cssSelector("span[data-automation='product-title']")).getText();
-                    String priceText = product.findElement(By.cssSelector("span[data-automation='item-price']")).getText();
-                    String link = product.findElement(By.tagName("a")).getAttribute("href");
-
-                    Double price = extractPrice(priceText);
-                    if (price != null) {
-                        results.add(new PriceResult("Walmart", price, "each", "Local", "🏪", link));
-                    }
-                } catch (Exception e) {
-                    continue;
-                }
-            }
+            return ResponseEntity.ok(basketService.optimize(householdId, maxStores));
         } catch (Exception e) {
-            System.err.println("Selenium Error: " + e.getMessage());
-        } finally {
-            driver.quit(); // Always close the browser!
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().build();
         }
-        return results;
     }
 
     /**
-     * Extract price from text like "$5.99" or "5.99"
+     * Hit rates of the HTTP fast path vs the browser fallback
      */
-    private Double extractPrice(String priceText) {
-        if (priceText == null || priceText.isEmpty()) {
-            return null;
-        }
-        
-        try {
-            // Remove currency symbols and whitespace
-            String cleaned = priceText.replaceAll("[^0-9.]", "");
-            return Double.parseDouble(cleaned);
-        } catch (NumberFormatException e) {
-            return null;
-        }
+    @GetMapping("/fetch/stats")
+    public ResponseEntity<Map<String, Object>> getFetchStats() {
+        return ResponseEntity.ok(priceService.getFetchStats());
+    }
+
+    /**
+     * Metrics from the last off-peak price pre-warm run
+     */
+    @GetMapping("/prewarm/stats")
+    public ResponseEntity<PricePrewarmService.PrewarmStats> getPrewarmStats() {
+        return ResponseEntity.ok(pricePrewarmService.getLastStats());
     }
 
     /**
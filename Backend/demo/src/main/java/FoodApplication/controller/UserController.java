@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -62,6 +64,7 @@ public class UserController {
     /**
      * Get user's favorites
      */
+    @Transactional(readOnly = true)
     @GetMapping("/{userId}/favorites")
     public ResponseEntity<List<Long>> getUserFavorites(@PathVariable String userId) {
         try {
@@ -118,6 +121,7 @@ public class UserController {
     /**
      * Get user's household ID
      */
+    @Transactional(readOnly = true)
     @GetMapping("/{userId}/household")
     public ResponseEntity<Map<String, Object>> getUserHousehold(@PathVariable String userId) {
         try {
@@ -136,6 +140,7 @@ public class UserController {
     /**
      * Get household inventory
      */
+    @Transactional(readOnly = true)
     @GetMapping("/household/{householdId}/inventory")
     public ResponseEntity<List<Map<String, Object>>> getHouseholdInventory(@PathVariable Integer householdId) {
         try {
@@ -194,6 +199,7 @@ public class UserController {
     /**
      * Get household needed items
      */
+    @Transactional(readOnly = true)
     @GetMapping("/household/{householdId}/needed")
     public ResponseEntity<List<Map<String, Object>>> getNeededItems(@PathVariable Integer householdId) {
         try {
@@ -243,4 +249,38 @@ public class UserController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * Get household, inventory, needed items and favorites in one round trip.
+     * A single query resolves the household and aggregates everything as JSON.
+     * Reads right after a write stay on the primary via ReadYourWritesInterceptor.
+     */
+    @Transactional(readOnly = true)
+    @GetMapping("/{userId}/dashboard")
+    public ResponseEntity<String> getUserDashboard(@PathVariable String userId) {
+        try {
+            String sql = "WITH hh AS (" +
+                        "  SELECT h.id, h.name FROM households h " +
+                        "  JOIN household_members hm ON h.id = hm.household_id " +
+                        "  WHERE hm.user_id = ? LIMIT 1" +
+                        ") " +
+                        "SELECT json_build_object(" +
+                        "  'household', (SELECT row_to_json(hh) FROM hh), " +
+                        "  'inventory', COALESCE((SELECT json_agg(i ORDER BY i.created_at DESC) " +
+                        "      FROM household_inventory i WHERE i.household_id = (SELECT id FROM hh)), '[]'::json), " +
+                        "  'needed', COALESCE((SELECT json_agg(n ORDER BY n.created_at DESC) " +
+                        "      FROM household_needed_items n WHERE n.household_id = (SELECT id FROM hh)), '[]'::json), " +
+                        "  'favorites', COALESCE((SELECT json_agg(f.recipe_id) " +
+                        "      FROM user_favorites f WHERE f.user_id = ?), '[]'::json)" +
+                        ")::text";
+
+            UUID uuid = UUID.fromString(userId);
+            String json = jdbcTemplate.queryForObject(sql, String.class, uuid, uuid);
+            // Postgres already built the JSON; send it as is instead of parsing and re-serializing it
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().build();
+        }
+    }
 }
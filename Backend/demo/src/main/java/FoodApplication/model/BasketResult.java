@@ -0,0 +1,38 @@
+package FoodApplication.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cheapest assignment of a household's needed items to stores
+ */
+public class BasketResult {
+
+    /**
+     * One needed item and the store it should be bought from
+     */
+    public static class Assignment {
+        public String item;
+        public String store;
+        public Double price;
+        public String unit;
+        public String productUrl;
+
+        public Assignment(String item, String store, Double price, String unit, String productUrl) {
+            this.item = item;
+            this.store = store;
+            this.price = price;
+            this.unit = unit;
+            this.productUrl = productUrl;
+        }
+    }
+
+    public Integer householdId;
+    public Integer maxStores;
+    public List<String> stores = new ArrayList<>();
+    public Double total = 0.0;
+    public List<Assignment> assignments = new ArrayList<>();
+    public List<String> unavailable = new ArrayList<>();
+    public long fetchMillis;
+    public long optimizeMillis;
+}
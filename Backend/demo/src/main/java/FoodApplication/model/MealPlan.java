@@ -0,0 +1,51 @@
+package FoodApplication.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generated 7-day meal plan plus how well it meets the request
+ */
+public class MealPlan {
+
+    /**
+     * One meal slot: the nutrition category it had to fill and the food chosen for it
+     */
+    public static class Meal {
+        public String targetNutrition;
+        public Long foodId;
+        public String name;
+        public String mainNutrition;
+
+        public Meal(String targetNutrition, Long foodId, String name, String mainNutrition) {
+            this.targetNutrition = targetNutrition;
+            this.foodId = foodId;
+            this.name = name;
+            this.mainNutrition = mainNutrition;
+        }
+    }
+
+    /**
+     * All meals for one day of the week (1-7)
+     */
+    public static class Day {
+        public int day;
+        public List<Meal> meals = new ArrayList<>();
+
+        public Day(int day) {
+            this.day = day;
+        }
+    }
+
+    public List<Day> days = new ArrayList<>();
+    public int unmetTargets;
+    public int repeats;
+    public int favoriteMeals;
+    public int inventoryIngredients;
+    public Double estimatedCost;
+    public double score;
+    public long searchMillis;
+    public long totalMillis;
+    public long iterations;
+    public int workers;
+}
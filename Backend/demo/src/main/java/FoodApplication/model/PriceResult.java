@@ -0,0 +1,22 @@
+package FoodApplication.model;
+
+/**
+ * Price result model
+ */
+public class PriceResult {
+    public String store;
+    public Double price;
+    public String unit;
+    public String distance;
+    public String logo;
+    public String productUrl;
+
+    public PriceResult(String store, Double price, String unit, String distance, String logo, String productUrl) {
+        this.store = store;
+        this.price = price;
+        this.unit = unit;
+        this.distance = distance;
+        this.logo = logo;
+        this.productUrl = productUrl;
+    }
+}
@@ -3,6 +3,7 @@ package FoodApplication.repo;
 import FoodApplication.model.Food;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -12,9 +13,11 @@ public interface RecipesRepo extends JpaRepository<Food, Long> {
     // You can add custom query methods here if needed, for example:
     
     // Find foods by name (case-insensitive)
+    @Transactional(readOnly = true)
     List<Food> findByNameContainingIgnoreCase(String name);
     
     // Find foods by main nutrition
+    @Transactional(readOnly = true)
     List<Food> findByMainNutrition(String mainNutrition);
     
     // Find foods by tag (you'll need to implement custom logic for this since tags are comma-separated)
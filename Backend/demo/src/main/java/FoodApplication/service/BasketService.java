@@ -0,0 +1,302 @@
+package FoodApplication.service;
+
+import FoodApplication.model.BasketResult;
+import FoodApplication.model.PriceResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the cheapest way to buy a household's whole needed-items list,
+ * optionally limited to a maximum number of stores.
+ */
+@Service
+public class BasketService {
+
+    // Above this many store combinations we switch from exhaustive search to greedy
+    private static final long MAX_EXHAUSTIVE_COMBINATIONS = 200_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceService priceService;
+    private final ExecutorService fetchPool;
+    private final long fetchTimeoutSeconds;
+
+    public BasketService(
+            JdbcTemplate jdbcTemplate,
+            PriceService priceService,
+            @Value("${prices.basket.fetch-threads:8}") int fetchThreads,
+            @Value("${prices.basket.fetch-timeout-seconds:60}") long fetchTimeoutSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceService = priceService;
+        this.fetchPool = Executors.newFixedThreadPool(Math.max(1, fetchThreads));
+        this.fetchTimeoutSeconds = fetchTimeoutSeconds;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fetchPool.shutdownNow();
+    }
+
+    /**
+     * Loads the household's needed items, prices them in parallel and picks the cheapest stores.
+     * A null maxStores means no limit; maxStores = 1 plans a single-store trip.
+     */
+    public BasketResult optimize(Integer householdId, Integer maxStores) {
+        BasketResult result = new BasketResult();
+        result.householdId = householdId;
+        result.maxStores = maxStores;
+
+        List<String> items = loadNeededItems(householdId);
+        if (items.isEmpty()) {
+            return result;
+        }
+
+        long fetchStart = System.nanoTime();
+        Map<String, List<PriceResult>> prices = fetchAll(items);
+        result.fetchMillis = (System.nanoTime() - fetchStart) / 1_000_000;
+
+        long optimizeStart = System.nanoTime();
+        assign(items, prices, maxStores, result);
+        result.optimizeMillis = (System.nanoTime() - optimizeStart) / 1_000_000;
+
+        return result;
+    }
+
+    private List<String> loadNeededItems(Integer householdId) {
+        String sql = "SELECT name FROM household_needed_items WHERE household_id = ? ORDER BY created_at DESC";
+        Map<String, String> distinct = new LinkedHashMap<>();
+        for (String name : jdbcTemplate.queryForList(sql, String.class, householdId)) {
+            if (name != null && !name.isBlank()) {
+                distinct.putIfAbsent(PriceService.normalize(name), name.trim());
+            }
+        }
+        return new ArrayList<>(distinct.values());
+    }
+
+    /**
+     * Prices every item concurrently; warm items come straight from the cache.
+     * Cache misses use the HTTP fetch only, so a large list can't start a browser per item.
+     */
+    private Map<String, List<PriceResult>> fetchAll(List<String> items) {
+        Map<String, List<PriceResult>> prices = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        List<Callable<List<PriceResult>>> tasks = new ArrayList<>();
+        for (String item : items) {
+            List<PriceResult> cached = priceService.getCached(item);
+            if (cached != null) {
+                prices.put(item, cached);
+            } else {
+                missing.add(item);
+                tasks.add(() -> priceService.searchWithoutBrowser(item));
+            }
+        }
+        if (tasks.isEmpty()) {
+            return prices;
+        }
+
+        try {
+            // Tasks still queued or running at the timeout are cancelled (running ones are interrupted)
+            List<Future<List<PriceResult>>> futures = fetchPool.invokeAll(tasks, fetchTimeoutSeconds, TimeUnit.SECONDS);
+            for (int i = 0; i < futures.size(); i++) {
+                Future<List<PriceResult>> future = futures.get(i);
+                if (future.isCancelled()) {
+                    continue;
+                }
+                try {
+                    prices.put(missing.get(i), future.get());
+                } catch (Exception e) {
+                    System.err.println("Basket price fetch failed for '" + missing.get(i) + "': " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Whatever finished in time is still usable; the rest is reported as unavailable
+        return prices;
+    }
+
+    /**
+     * Picks at most maxStores stores (null or <= 0 means no limit) that cover the most items,
+     * then the lowest total, and assigns each item to its cheapest chosen store
+     */
+    static void assign(List<String> items, Map<String, List<PriceResult>> prices,
+                        Integer maxStores, BasketResult result) {
+        // Cheapest offer per (item, store)
+        List<String> stores = new ArrayList<>();
+        Map<String, Integer> storeIndex = new HashMap<>();
+        List<Map<Integer, PriceResult>> offers = new ArrayList<>();
+
+        for (String item : items) {
+            Map<Integer, PriceResult> byStore = new HashMap<>();
+            for (PriceResult offer : prices.getOrDefault(item, List.of())) {
+                if (offer.price == null || offer.store == null) continue;
+                Integer s = storeIndex.computeIfAbsent(offer.store, k -> {
+                    stores.add(k);
+                    return stores.size() - 1;
+                });
+                PriceResult current = byStore.get(s);
+                if (current == null || offer.price < current.price) {
+                    byStore.put(s, offer);
+                }
+            }
+            offers.add(byStore);
+        }
+
+        int storeCount = stores.size();
+        double[][] cost = new double[storeCount][items.size()];
+        for (double[] row : cost) {
+            Arrays.fill(row, Double.POSITIVE_INFINITY);
+        }
+        for (int i = 0; i < items.size(); i++) {
+            for (Map.Entry<Integer, PriceResult> e : offers.get(i).entrySet()) {
+                cost[e.getKey()][i] = e.getValue().price;
+            }
+        }
+
+        int limit = (maxStores == null || maxStores <= 0) ? storeCount : Math.min(maxStores, storeCount);
+        List<Integer> chosen;
+        if (limit == storeCount) {
+            chosen = new ArrayList<>();
+            for (int s = 0; s < storeCount; s++) chosen.add(s);
+        } else if (combinations(storeCount, limit) <= MAX_EXHAUSTIVE_COMBINATIONS) {
+            chosen = exhaustive(cost, items.size(), limit);
+        } else {
+            chosen = greedy(cost, items.size(), limit);
+        }
+
+        // Assign each item to the cheapest of the chosen stores
+        List<String> usedStores = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            int bestStore = -1;
+            for (int s : chosen) {
+                if (bestStore < 0 || cost[s][i] < cost[bestStore][i]) bestStore = s;
+            }
+            if (bestStore < 0 || cost[bestStore][i] == Double.POSITIVE_INFINITY) {
+                result.unavailable.add(items.get(i));
+                continue;
+            }
+            PriceResult offer = offers.get(i).get(bestStore);
+            result.assignments.add(new BasketResult.Assignment(
+                    items.get(i), offer.store, offer.price, offer.unit, offer.productUrl));
+            result.total += offer.price;
+            if (!usedStores.contains(offer.store)) usedStores.add(offer.store);
+        }
+        result.total = Math.round(result.total * 100.0) / 100.0;
+        result.stores = usedStores;
+    }
+
+    /**
+     * Tries every set of up to `limit` stores, carrying the per-item minimum down the recursion
+     */
+    private static List<Integer> exhaustive(double[][] cost, int itemCount, int limit) {
+        double[] none = new double[itemCount];
+        Arrays.fill(none, Double.POSITIVE_INFINITY);
+        Search search = new Search();
+        search.run(cost, none, 0, new int[limit], 0);
+        List<Integer> chosen = new ArrayList<>();
+        for (int s : search.bestStores) chosen.add(s);
+        return chosen;
+    }
+
+    private static class Search {
+        int bestCovered = -1;
+        double bestTotal = Double.POSITIVE_INFINITY;
+        int[] bestStores = new int[0];
+
+        void run(double[][] cost, double[] current, int from, int[] stack, int depth) {
+            if (depth > 0) {
+                consider(current, stack, depth);
+            }
+            if (depth == stack.length) {
+                return;
+            }
+            for (int s = from; s < cost.length; s++) {
+                double[] next = new double[current.length];
+                for (int i = 0; i < current.length; i++) {
+                    next[i] = Math.min(current[i], cost[s][i]);
+                }
+                stack[depth] = s;
+                run(cost, next, s + 1, stack, depth + 1);
+            }
+        }
+
+        // Covering more items always wins; ties are broken by total price
+        void consider(double[] perItem, int[] stack, int depth) {
+            int covered = 0;
+            double total = 0;
+            for (double p : perItem) {
+                if (p != Double.POSITIVE_INFINITY) {
+                    covered++;
+                    total += p;
+                }
+            }
+            if (covered > bestCovered || (covered == bestCovered && total < bestTotal)) {
+                bestCovered = covered;
+                bestTotal = total;
+                bestStores = Arrays.copyOf(stack, depth);
+            }
+        }
+    }
+
+    /**
+     * Adds the store that improves coverage, then total, the most until the limit is reached
+     */
+    private static List<Integer> greedy(double[][] cost, int itemCount, int limit) {
+        double[] current = new double[itemCount];
+        Arrays.fill(current, Double.POSITIVE_INFINITY);
+        List<Integer> chosen = new ArrayList<>();
+
+        while (chosen.size() < limit) {
+            int bestStore = -1;
+            int bestCovered = -1;
+            double bestTotal = Double.POSITIVE_INFINITY;
+            for (int s = 0; s < cost.length; s++) {
+                if (chosen.contains(s)) continue;
+                int covered = 0;
+                double total = 0;
+                for (int i = 0; i < itemCount; i++) {
+                    double p = Math.min(current[i], cost[s][i]);
+                    if (p != Double.POSITIVE_INFINITY) {
+                        covered++;
+                        total += p;
+                    }
+                }
+                if (covered > bestCovered || (covered == bestCovered && total < bestTotal)) {
+                    bestStore = s;
+                    bestCovered = covered;
+                    bestTotal = total;
+                }
+            }
+            if (bestStore < 0) break;
+            chosen.add(bestStore);
+            for (int i = 0; i < itemCount; i++) {
+                current[i] = Math.min(current[i], cost[bestStore][i]);
+            }
+        }
+        return chosen;
+    }
+
+    private static long combinations(int n, int maxK) {
+        long total = 0;
+        long c = 1;
+        for (int k = 1; k <= maxK; k++) {
+            c = c * (n - k + 1) / k;
+            total += c;
+            if (total > MAX_EXHAUSTIVE_COMBINATIONS) return total;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,360 @@
+package FoodApplication.service;
+
+import FoodApplication.model.Food;
+import FoodApplication.repo.RecipesRepo;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keeps a compact binary copy of the foods catalog on disk so the service can
+ * answer /api/foods straight after boot without touching Postgres or re-reading
+ * recipes.xlsx. The snapshot is checked against the catalog version row in the
+ * background, at startup and then periodically, and reloaded or rewritten when
+ * an import on any node has bumped it.
+ *
+ * File layout (big-endian):
+ *   int magic, int format version, long db version, long created-at millis,
+ *   long index offset, int food count,
+ *   foods: long id, string name, string mainNutrition, 4 x string list,
+ *   index: int category count, then per category: string name, int n, n x long id
+ * Strings are an int byte length (-1 for null) followed by UTF-8 bytes;
+ * string lists are an int count followed by that many strings.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final int MAGIC = 0x4D344D53; // "M4MS"
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * In-memory catalog decoded from a snapshot
+     */
+    static class Catalog {
+        final long dbVersion;
+        final List<Food> foods;
+        final Map<Long, Food> byId;
+        final Map<String, List<Food>> byNutrition;
+
+        Catalog(long dbVersion, List<Food> foods, Map<Long, Food> byId, Map<String, List<Food>> byNutrition) {
+            this.dbVersion = dbVersion;
+            this.foods = foods;
+            this.byId = byId;
+            this.byNutrition = byNutrition;
+        }
+    }
+
+    private final RecipesRepo recipesRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final Path snapshotPath;
+
+    private volatile Catalog catalog;
+    private volatile boolean versionTableReady;
+
+    public CatalogSnapshotService(
+            RecipesRepo recipesRepo,
+            JdbcTemplate jdbcTemplate,
+            @Value("${catalog.snapshot.path:catalog.snapshot}") String snapshotPath) {
+        this.recipesRepo = recipesRepo;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    /**
+     * Loads the snapshot from disk if there is one; no database access
+     */
+    @PostConstruct
+    public void loadOnStartup() {
+        if (!Files.exists(snapshotPath)) {
+            System.out.println("No catalog snapshot at " + snapshotPath.toAbsolutePath() + ", serving from database");
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            catalog = read(snapshotPath);
+            System.out.println("Loaded catalog snapshot (" + catalog.foods.size() + " foods) in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (Exception e) {
+            System.err.println("Ignoring unreadable catalog snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Once the app is serving, compare the snapshot with the database off the startup path
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyInBackground() {
+        Thread verifier = new Thread(this::checkForUpdates, "catalog-snapshot-verify");
+        verifier.setDaemon(true);
+        verifier.start();
+    }
+
+    /**
+     * Picks up imports made on other nodes; one single-row read when nothing changed
+     */
+    @Scheduled(initialDelayString = "${catalog.snapshot.check-ms:60000}",
+               fixedDelayString = "${catalog.snapshot.check-ms:60000}")
+    public void checkForUpdates() {
+        try {
+            long dbVersion = currentDbVersion();
+            Catalog current = catalog;
+            if (current != null && current.dbVersion == dbVersion) {
+                return;
+            }
+
+            // A node sharing the snapshot path may already have written this version
+            Catalog onDisk = Files.exists(snapshotPath) ? read(snapshotPath) : null;
+            if (onDisk != null && onDisk.dbVersion == dbVersion) {
+                System.out.println("Reloaded catalog snapshot at version " + dbVersion);
+                catalog = onDisk;
+                return;
+            }
+
+            System.out.println("Catalog snapshot is missing or stale, rebuilding from database");
+            rebuildFromDatabase();
+        } catch (Exception e) {
+            System.err.println("Catalog snapshot verification failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the catalog from Postgres, writes a fresh snapshot and swaps it in
+     */
+    public synchronized void rebuildFromDatabase() {
+        long dbVersion = currentDbVersion();
+        List<Food> foods = recipesRepo.findAll();
+        try {
+            write(snapshotPath, dbVersion, foods);
+            catalog = read(snapshotPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write catalog snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return catalog != null;
+    }
+
+    public List<Food> findAll() {
+        Catalog current = catalog;
+        return current == null ? null : current.foods;
+    }
+
+    public Food findById(Long id) {
+        Catalog current = catalog;
+        return current == null ? null : current.byId.get(id);
+    }
+
+    public List<Food> findByNameContainingIgnoreCase(String name) {
+        Catalog current = catalog;
+        if (current == null) {
+            return null;
+        }
+        String needle = name.toLowerCase(Locale.ROOT);
+        List<Food> matches = new ArrayList<>();
+        for (Food food : current.foods) {
+            if (food.getName() != null && food.getName().toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.add(food);
+            }
+        }
+        return matches;
+    }
+
+    public List<Food> findByMainNutrition(String mainNutrition) {
+        Catalog current = catalog;
+        return current == null ? null : current.byNutrition.getOrDefault(mainNutrition, List.of());
+    }
+
+    /**
+     * Marks the foods table as changed; call after every import, before rebuilding the snapshot
+     */
+    public long bumpDbVersion() {
+        ensureVersionTable();
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO catalog_version (id, version) VALUES (1, 1) " +
+                "ON CONFLICT (id) DO UPDATE SET version = catalog_version.version + 1 RETURNING version",
+                Long.class);
+    }
+
+    /**
+     * Version of the foods table as last bumped by an import; 0 if it was never imported through the app
+     */
+    private long currentDbVersion() {
+        ensureVersionTable();
+        List<Long> version = jdbcTemplate.queryForList("SELECT version FROM catalog_version WHERE id = 1", Long.class);
+        return version.isEmpty() ? 0 : version.get(0);
+    }
+
+    private void ensureVersionTable() {
+        if (!versionTableReady) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS catalog_version (id INT PRIMARY KEY, version BIGINT NOT NULL)");
+            versionTableReady = true;
+        }
+    }
+
+    // ----- Encoding -----
+
+    static void write(Path path, long dbVersion, List<Food> foods) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = Files.createTempFile(parent, "catalog", ".tmp");
+
+        Map<String, List<Long>> index = new LinkedHashMap<>();
+        for (Food food : foods) {
+            if (food.getMainNutrition() != null) {
+                index.computeIfAbsent(food.getMainNutrition(), k -> new ArrayList<>()).add(food.getId());
+            }
+        }
+
+        long indexOffset;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(dbVersion);
+            out.writeLong(System.currentTimeMillis());
+            out.writeLong(0); // index offset, patched below
+            out.writeInt(foods.size());
+
+            for (Food food : foods) {
+                out.writeLong(food.getId());
+                writeString(out, food.getName());
+                writeString(out, food.getMainNutrition());
+                writeList(out, food.getIngredients());
+                writeList(out, food.getRecipes());
+                writeList(out, food.getRecommendations());
+                writeList(out, food.getTags());
+            }
+
+            indexOffset = out.size();
+            out.writeInt(index.size());
+            for (Map.Entry<String, List<Long>> entry : index.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeInt(entry.getValue().size());
+                for (Long id : entry.getValue()) {
+                    out.writeLong(id);
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ByteBuffer offset = ByteBuffer.allocate(8).putLong(indexOffset);
+            offset.flip();
+            channel.write(offset, 24);
+        }
+
+        // Readers on other nodes either see the old file or the complete new one
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Every record is decoded into heap objects, so a plain read is enough; unlike a mapping it
+    // holds no handle on the file, which would block replacing it on Windows
+    static Catalog read(Path path) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(path));
+
+        if (buf.getInt() != MAGIC) {
+            throw new IOException("not a catalog snapshot");
+        }
+        int version = buf.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("unsupported snapshot format " + version);
+        }
+        long dbVersion = buf.getLong();
+        buf.getLong(); // created-at
+        long indexOffset = buf.getLong();
+        int count = buf.getInt();
+
+        List<Food> foods = new ArrayList<>(count);
+        Map<Long, Food> byId = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            long id = buf.getLong();
+            String name = readString(buf);
+            String mainNutrition = readString(buf);
+            List<String> ingredients = readList(buf);
+            List<String> recipes = readList(buf);
+            List<String> recommendations = readList(buf);
+            List<String> tags = readList(buf);
+
+            Food food = new Food(name, mainNutrition, ingredients, recipes, recommendations, tags);
+            food.setId(id);
+            foods.add(food);
+            byId.put(id, food);
+        }
+
+        buf.position((int) indexOffset);
+        int categories = buf.getInt();
+        Map<String, List<Food>> byNutrition = new HashMap<>();
+        for (int c = 0; c < categories; c++) {
+            String category = readString(buf);
+            int n = buf.getInt();
+            List<Food> members = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Food food = byId.get(buf.getLong());
+                if (food != null) members.add(food);
+            }
+            byNutrition.put(category, Collections.unmodifiableList(members));
+        }
+
+        return new Catalog(dbVersion, Collections.unmodifiableList(foods), byId, byNutrition);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeList(DataOutputStream out, List<String> list) throws IOException {
+        out.writeInt(list.size());
+        for (String s : list) {
+            writeString(out, s);
+        }
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int len = buf.getInt();
+        if (len < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[len];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readList(ByteBuffer buf) {
+        int n = buf.getInt();
+        List<String> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(readString(buf));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,371 @@
+package FoodApplication.service;
+
+import FoodApplication.model.Food;
+import FoodApplication.model.MealPlan;
+import FoodApplication.model.PriceResult;
+import FoodApplication.repo.RecipesRepo;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a 7-day meal plan from the catalog with a time-boxed local search.
+ * Each worker on the fork-join pool runs its own simulated-annealing search
+ * from a different random start; the best plan any of them finds wins.
+ */
+@Service
+public class MealPlanService {
+
+    private static final int DAYS = 7;
+
+    // Score weights (lower score is better). Hard constraints dominate preferences.
+    private static final double UNMET_PENALTY = 1000;
+    static final double REPEAT_PENALTY = 300;
+    private static final double FAVORITE_BONUS = 20;
+    private static final double INVENTORY_BONUS = 5;
+
+    // Share of the budget the search always gets, even when loading and setup used up the rest
+    private static final double MIN_SEARCH_SHARE = 0.1;
+
+    // Slack past the deadline for workers to notice it; they check the clock every 1024 moves
+    private static final long DEADLINE_GRACE_NANOS = 5_000_000L;
+
+    private final RecipesRepo recipesRepo;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final PriceService priceService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ForkJoinPool solverPool;
+
+    public MealPlanService(
+            RecipesRepo recipesRepo,
+            CatalogSnapshotService catalogSnapshotService,
+            PriceService priceService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${mealplan.solver-threads:0}") int solverThreads) {
+        this.recipesRepo = recipesRepo;
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.priceService = priceService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.solverPool = new ForkJoinPool(solverThreads > 0 ? solverThreads : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        solverPool.shutdownNow();
+    }
+
+    /**
+     * Precomputed inputs shared read-only by all search workers
+     */
+    static class Problem {
+        List<Food> foods;
+        String[] slotTarget;           // required category per slot, day-major
+        int[][] candidates;            // per slot: food indexes matching its category (may be empty)
+        double[][] slotCost;           // [slot][food]: unmet penalty + preference/cost terms
+        double[] foodCost;             // estimated cost of the missing ingredients per food, or 0
+        boolean[] favorite;
+        int[] inventoryHits;
+    }
+
+    /**
+     * One worker's best assignment
+     */
+    static class Solution {
+        int[] assignment;
+        double score;
+        long iterations;
+    }
+
+    /**
+     * @param targets  meals per day for each nutrition category, e.g. {Protein=2, Omega-3=1}; empty picks a default
+     * @param budgetMs wall-clock time for the whole request, loading and setup included
+     */
+    public MealPlan generate(String userId, Integer householdId, Map<String, Integer> targets,
+                             boolean minimizeCost, long budgetMs) throws Exception {
+        long requestStart = System.nanoTime();
+        List<Food> foods = catalogSnapshotService.isLoaded() ? catalogSnapshotService.findAll() : recipesRepo.findAll();
+        if (foods.isEmpty()) {
+            return new MealPlan();
+        }
+        if (targets.isEmpty()) {
+            targets = defaultTargets(foods);
+        }
+
+        Set<Long> favorites = userId == null ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT recipe_id FROM user_favorites WHERE user_id = ?", Long.class, UUID.fromString(userId)));
+        List<String> inventory = householdId == null ? List.of() : jdbcTemplate.queryForList(
+                "SELECT name FROM household_inventory WHERE household_id = ?", String.class, householdId)
+                .stream().filter(n -> n != null && !n.isBlank())
+                .map(n -> n.trim().toLowerCase(Locale.ROOT)).collect(Collectors.toList());
+
+        Problem problem = buildProblem(foods, targets, favorites, inventory, minimizeCost);
+        if (problem.slotTarget.length == 0) {
+            return new MealPlan();
+        }
+
+        // One deadline for the whole request: whatever setup left of the budget, but never
+        // less than the minimum share
+        long budgetNanos = budgetMs * 1_000_000L;
+        long minSearchNanos = (long) (budgetNanos * MIN_SEARCH_SHARE);
+        long searchStart = System.nanoTime();
+        long deadline = Math.max(requestStart + budgetNanos, searchStart + minSearchNanos);
+        int workers = solverPool.getParallelism();
+
+        // The pool is shared between requests, so a worker may start late; it still stops at
+        // the request's deadline, and one that hasn't started by then is cancelled
+        List<Callable<Solution>> tasks = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            long seed = System.nanoTime() + w * 0x9E3779B97F4A7C15L;
+            tasks.add(() -> search(problem, new SplittableRandom(seed), System.nanoTime(), deadline));
+        }
+
+        Solution best = null;
+        long iterations = 0;
+        int finished = 0;
+        long timeout = deadline - System.nanoTime() + DEADLINE_GRACE_NANOS;
+        for (Future<Solution> future : solverPool.invokeAll(tasks, timeout, TimeUnit.NANOSECONDS)) {
+            if (future.isCancelled()) {
+                continue;
+            }
+            Solution s = future.get();
+            finished++;
+            iterations += s.iterations;
+            if (best == null || s.score < best.score) {
+                best = s;
+            }
+        }
+        if (best == null) {
+            // Pool busy with other requests the whole time: search briefly on this thread instead
+            long start = System.nanoTime();
+            best = search(problem, new SplittableRandom(), start, start + minSearchNanos);
+            iterations = best.iterations;
+            finished = 1;
+        }
+
+        MealPlan plan = toPlan(problem, best, minimizeCost);
+        long end = System.nanoTime();
+        plan.searchMillis = (end - searchStart) / 1_000_000;
+        plan.totalMillis = (end - requestStart) / 1_000_000;
+        plan.iterations = iterations;
+        plan.workers = finished;
+        return plan;
+    }
+
+    // Up to three of the most common categories, one meal each per day
+    private Map<String, Integer> defaultTargets(List<Food> foods) {
+        Map<String, Long> counts = foods.stream()
+                .filter(f -> f.getMainNutrition() != null && !f.getMainNutrition().isBlank())
+                .collect(Collectors.groupingBy(f -> f.getMainNutrition().trim(), Collectors.counting()));
+        Map<String, Integer> targets = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(3)
+                .forEach(e -> targets.put(e.getKey(), 1));
+        return targets;
+    }
+
+    private Problem buildProblem(List<Food> foods, Map<String, Integer> targets, Set<Long> favorites,
+                                 List<String> inventory, boolean minimizeCost) {
+        Problem p = new Problem();
+        p.foods = foods;
+        int n = foods.size();
+
+        p.favorite = new boolean[n];
+        p.inventoryHits = new int[n];
+        p.foodCost = new double[n];
+        Map<String, List<Integer>> byCategory = new HashMap<>();
+
+        for (int f = 0; f < n; f++) {
+            Food food = foods.get(f);
+            p.favorite[f] = favorites.contains(food.getId());
+            for (String ingredient : food.getIngredients()) {
+                String ing = ingredient.toLowerCase(Locale.ROOT);
+                boolean have = inventory.stream().anyMatch(item -> item.contains(ing) || ing.contains(item));
+                if (have) {
+                    p.inventoryHits[f]++;
+                } else if (minimizeCost) {
+                    p.foodCost[f] += cheapestCachedPrice(ingredient);
+                }
+            }
+            if (food.getMainNutrition() != null) {
+                byCategory.computeIfAbsent(category(food.getMainNutrition()), k -> new ArrayList<>()).add(f);
+            }
+        }
+
+        List<String> slots = new ArrayList<>();
+        for (int d = 0; d < DAYS; d++) {
+            targets.forEach((category, count) -> {
+                for (int i = 0; i < count; i++) slots.add(category);
+            });
+        }
+        p.slotTarget = slots.toArray(new String[0]);
+
+        p.candidates = new int[slots.size()][];
+        p.slotCost = new double[slots.size()][n];
+        for (int s = 0; s < slots.size(); s++) {
+            List<Integer> matching = byCategory.getOrDefault(category(slots.get(s)), List.of());
+            p.candidates[s] = matching.stream().mapToInt(Integer::intValue).toArray();
+            for (int f = 0; f < n; f++) {
+                double cost = p.foodCost[f]
+                        - (p.favorite[f] ? FAVORITE_BONUS : 0)
+                        - p.inventoryHits[f] * INVENTORY_BONUS;
+                if (!category(slots.get(s)).equals(category(foods.get(f).getMainNutrition()))) {
+                    cost += UNMET_PENALTY;
+                }
+                p.slotCost[s][f] = cost;
+            }
+        }
+        return p;
+    }
+
+    // Only prices already in the cache; the solver never triggers a scrape
+    private double cheapestCachedPrice(String ingredient) {
+        List<PriceResult> cached = priceService.getCached(ingredient);
+        if (cached == null) {
+            return 0;
+        }
+        return cached.stream().filter(r -> r.price != null).mapToDouble(r -> r.price).min().orElse(0);
+    }
+
+    private static String category(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Slot costs plus a repeat penalty for every extra use of the same food
+     */
+    static double score(Problem p, int[] assignment) {
+        int[] uses = new int[p.foods.size()];
+        double score = 0;
+        for (int s = 0; s < assignment.length; s++) {
+            score += p.slotCost[s][assignment[s]];
+            uses[assignment[s]]++;
+        }
+        for (int u : uses) score += Math.max(0, u - 1) * REPEAT_PENALTY;
+        return score;
+    }
+
+    /**
+     * Simulated annealing over single-slot changes and two-slot swaps until the deadline;
+     * the score is kept up to date incrementally from each move's delta
+     */
+    static Solution search(Problem p, SplittableRandom random, long start, long deadline) {
+        int slots = p.slotTarget.length;
+        int n = p.foods.size();
+        int[] current = new int[slots];
+        int[] uses = new int[n];
+
+        // Random start, drawn from each slot's category when possible
+        for (int s = 0; s < slots; s++) {
+            current[s] = propose(p, s, random);
+            uses[current[s]]++;
+        }
+        double score = score(p, current);
+
+        Solution best = new Solution();
+        best.assignment = current.clone();
+        best.score = score;
+
+        double startTemp = REPEAT_PENALTY;
+        long span = Math.max(1, deadline - start);
+        long iterations = 0;
+        long now = System.nanoTime();
+
+        while (now < deadline) {
+            // Check the clock every 1024 moves; each move is only a few array reads
+            for (int k = 0; k < 1024; k++) {
+                int s = random.nextInt(slots);
+                int from = current[s];
+                // Either exchange two slots' foods, which keeps the use counts as they are,
+                // or give one slot another food
+                int other = random.nextInt(4) == 0 ? random.nextInt(slots) : -1;
+                int to = other >= 0 ? current[other] : propose(p, s, random);
+                if (to == from) continue;
+
+                double delta = p.slotCost[s][to] - p.slotCost[s][from];
+                if (other >= 0) {
+                    delta += p.slotCost[other][from] - p.slotCost[other][to];
+                } else {
+                    if (uses[from] >= 2) delta -= REPEAT_PENALTY;
+                    if (uses[to] >= 1) delta += REPEAT_PENALTY;
+                }
+
+                double temperature = startTemp * (1.0 - (double) (now - start) / span) + 1e-3;
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                    current[s] = to;
+                    if (other >= 0) {
+                        current[other] = from;
+                    } else {
+                        uses[from]--;
+                        uses[to]++;
+                    }
+                    score += delta;
+                    if (score < best.score - 1e-9) {
+                        best.score = score;
+                        best.assignment = current.clone();
+                    }
+                }
+            }
+            iterations += 1024;
+            now = System.nanoTime();
+        }
+
+        best.iterations = iterations;
+        return best;
+    }
+
+    // Mostly stay within the slot's category; occasionally try anything so empty categories still get filled
+    private static int propose(Problem p, int slot, SplittableRandom random) {
+        int[] candidates = p.candidates[slot];
+        if (candidates.length > 0 && random.nextInt(10) < 9) {
+            return candidates[random.nextInt(candidates.length)];
+        }
+        return random.nextInt(p.foods.size());
+    }
+
+    private MealPlan toPlan(Problem p, Solution best, boolean minimizeCost) {
+        MealPlan plan = new MealPlan();
+        int perDay = p.slotTarget.length / DAYS;
+        Map<Integer, Integer> uses = new HashMap<>();
+        double cost = 0;
+
+        for (int d = 0; d < DAYS; d++) {
+            MealPlan.Day day = new MealPlan.Day(d + 1);
+            for (int i = 0; i < perDay; i++) {
+                int s = d * perDay + i;
+                int f = best.assignment[s];
+                Food food = p.foods.get(f);
+                day.meals.add(new MealPlan.Meal(p.slotTarget[s], food.getId(), food.getName(), food.getMainNutrition()));
+
+                if (!category(p.slotTarget[s]).equals(category(food.getMainNutrition()))) plan.unmetTargets++;
+                if (p.favorite[f]) plan.favoriteMeals++;
+                plan.inventoryIngredients += p.inventoryHits[f];
+                cost += p.foodCost[f];
+                uses.merge(f, 1, Integer::sum);
+            }
+            plan.days.add(day);
+        }
+
+        plan.repeats = uses.values().stream().mapToInt(u -> u - 1).sum();
+        plan.estimatedCost = minimizeCost ? Math.round(cost * 100.0) / 100.0 : null;
+        plan.score = best.score;
+        return plan;
+    }
+}
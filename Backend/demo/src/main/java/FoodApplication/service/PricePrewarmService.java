@@ -0,0 +1,190 @@
+package FoodApplication.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scrapes every distinct household needed item during the off-peak window so
+ * interactive /api/prices/search calls for shopping-list items hit a warm cache.
+ */
+@Service
+public class PricePrewarmService {
+
+    /**
+     * Metrics for the most recent pre-warm run
+     */
+    public static class PrewarmStats {
+        public Instant lastStartedAt;
+        public Instant lastFinishedAt;
+        public long durationMs;
+        public int distinctItems;
+        public int alreadyWarm;
+        public int scraped;
+        public int failed;
+        public double itemsPerSecond;
+        public double coverage;
+        public boolean running;
+        public boolean stoppedByWindow;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceService priceService;
+
+    private final int batchSize;
+    private final long itemDelayMs;
+    private final long batchDelayMs;
+    private final LocalTime windowStart;
+    private final LocalTime windowEnd;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    // The run sleeps for most of the window, so it must not hold the shared scheduler thread
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "price-prewarm");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile PrewarmStats lastStats = new PrewarmStats();
+
+    public PricePrewarmService(
+            JdbcTemplate jdbcTemplate,
+            PriceService priceService,
+            @Value("${prices.prewarm.batch-size:10}") int batchSize,
+            @Value("${prices.prewarm.item-delay-ms:2000}") long itemDelayMs,
+            @Value("${prices.prewarm.batch-delay-ms:30000}") long batchDelayMs,
+            @Value("${prices.prewarm.window-start:02:00}") String windowStart,
+            @Value("${prices.prewarm.window-end:06:00}") String windowEnd) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.priceService = priceService;
+        this.batchSize = Math.max(1, batchSize);
+        this.itemDelayMs = itemDelayMs;
+        this.batchDelayMs = batchDelayMs;
+        this.windowStart = LocalTime.parse(windowStart);
+        this.windowEnd = LocalTime.parse(windowEnd);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Fires at the start of the off-peak window and hands the run to the pre-warm
+     * thread, which keeps going until every item is warm or the window closes.
+     */
+    @Scheduled(cron = "${prices.prewarm.cron:0 0 2 * * *}")
+    public void prewarm() {
+        // A slow run from the previous night must not overlap with a new one
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        worker.execute(this::run);
+    }
+
+    private void run() {
+        PrewarmStats stats = new PrewarmStats();
+        stats.running = true;
+        stats.lastStartedAt = Instant.now();
+        lastStats = stats;
+        long start = System.nanoTime();
+        // Warmed prices are kept until the next run has had its whole window to replace them
+        long expiresAt = endOfNextWindow(ZonedDateTime.now()).toInstant().toEpochMilli();
+
+        try {
+            List<String> items = loadDistinctNeededItems();
+            stats.distinctItems = items.size();
+
+            int inBatch = 0;
+            for (String item : items) {
+                if (!inWindow(LocalTime.now())) {
+                    stats.stoppedByWindow = true;
+                    break;
+                }
+                if (priceService.isWarmUntil(item, expiresAt)) {
+                    stats.alreadyWarm++;
+                    continue;
+                }
+
+                try {
+                    if (priceService.refresh(item, expiresAt).isEmpty()) {
+                        stats.failed++;
+                    } else {
+                        stats.scraped++;
+                    }
+                } catch (Exception e) {
+                    stats.failed++;
+                    System.err.println("Price pre-warm failed for '" + item + "': " + e.getMessage());
+                }
+
+                // Rate limit: short pause per item, longer pause between batches
+                inBatch++;
+                Thread.sleep(inBatch % batchSize == 0 ? batchDelayMs : itemDelayMs);
+            }
+
+            stats.coverage = coverage(items);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            stats.durationMs = (System.nanoTime() - start) / 1_000_000;
+            stats.itemsPerSecond = stats.durationMs == 0 ? 0 : (stats.scraped + stats.failed) * 1000.0 / stats.durationMs;
+            stats.lastFinishedAt = Instant.now();
+            stats.running = false;
+            running.set(false);
+        }
+    }
+
+    public PrewarmStats getLastStats() {
+        return lastStats;
+    }
+
+    /**
+     * Distinct needed-item names across all households, normalized the same way the price cache keys are
+     */
+    private List<String> loadDistinctNeededItems() {
+        String sql = "SELECT DISTINCT LOWER(TRIM(name)) FROM household_needed_items " +
+                     "WHERE name IS NOT NULL AND TRIM(name) <> ''";
+        return jdbcTemplate.queryForList(sql, String.class);
+    }
+
+    private double coverage(List<String> items) {
+        if (items.isEmpty()) {
+            return 1.0;
+        }
+        long warm = items.stream().filter(priceService::isWarm).count();
+        return (double) warm / items.size();
+    }
+
+    // End of the first window that starts after now; a run in progress counts as today's window
+    ZonedDateTime endOfNextWindow(ZonedDateTime now) {
+        ZonedDateTime nextStart = now.with(windowStart).withSecond(0).withNano(0);
+        if (!nextStart.isAfter(now)) {
+            nextStart = nextStart.plusDays(1);
+        }
+        Duration length = Duration.between(windowStart, windowEnd);
+        if (length.isNegative() || length.isZero()) {
+            length = length.plusDays(1);
+        }
+        return nextStart.plus(length);
+    }
+
+    // Supports windows that wrap past midnight, e.g. 23:00-05:00
+    boolean inWindow(LocalTime now) {
+        if (windowStart.isBefore(windowEnd)) {
+            return !now.isBefore(windowStart) && now.isBefore(windowEnd);
+        }
+        return !now.isBefore(windowStart) || now.isBefore(windowEnd);
+    }
+}
@@ -0,0 +1,243 @@
+package FoodApplication.service;
+
+import FoodApplication.model.PriceResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Service
+public class PriceService {
+
+    /**
+     * Scraped results for one query plus the time they stop being served
+     */
+    private static class CachedPrices {
+        final List<PriceResult> results;
+        final long expiresAt;
+
+        CachedPrices(List<PriceResult> results, long expiresAt) {
+            this.results = results;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Keyed by normalized query so "Milk " and "milk" share one entry
+    private final Map<String, CachedPrices> cache = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    // Queries come from users, so the number of distinct keys has to be bounded
+    private final int maxEntries;
+
+    private final WalmartHttpScraper walmartHttpScraper;
+    private final WalmartBrowserScraper walmartBrowserScraper;
+
+    // Which fetch path produced the results, for per-path hit rates
+    private final AtomicLong httpHits = new AtomicLong();
+    private final AtomicLong httpErrors = new AtomicLong();
+    private final AtomicLong browserHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public PriceService(
+            WalmartHttpScraper walmartHttpScraper,
+            @Lazy WalmartBrowserScraper walmartBrowserScraper,
+            @Value("${prices.cache.ttl-minutes:720}") long ttlMinutes,
+            @Value("${prices.cache.max-entries:10000}") int maxEntries) {
+        this.walmartHttpScraper = walmartHttpScraper;
+        this.walmartBrowserScraper = walmartBrowserScraper;
+        this.ttlMillis = Duration.ofMinutes(ttlMinutes).toMillis();
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * Returns cached prices when they are still fresh, otherwise scrapes the stores
+     */
+    public List<PriceResult> search(String query) {
+        List<PriceResult> cached = getCached(query);
+        if (cached != null) {
+            return cached;
+        }
+        return refresh(query);
+    }
+
+    /**
+     * Scrapes the stores for a query and stores the result for the default TTL, ignoring any cached entry
+     */
+    public List<PriceResult> refresh(String query) {
+        return refresh(query, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * Scrapes the stores for a query and keeps the result until the given epoch millis
+     */
+    public List<PriceResult> refresh(String query, long expiresAt) {
+        return fetch(query, expiresAt, true);
+    }
+
+    /**
+     * Like search, but a cache miss only tries the plain HTTP fetch and never starts a browser.
+     * For callers that price many items at once.
+     */
+    public List<PriceResult> searchWithoutBrowser(String query) {
+        List<PriceResult> cached = getCached(query);
+        if (cached != null) {
+            return cached;
+        }
+        return fetch(query, System.currentTimeMillis() + ttlMillis, false);
+    }
+
+    private List<PriceResult> fetch(String query, long expiresAt, boolean allowBrowser) {
+        List<PriceResult> results = new ArrayList<>();
+
+        // Search Walmart Canada
+        results.addAll(searchWalmartCanada(query, allowBrowser));
+
+        // You can add more stores here
+        // results.addAll(searchLoblaws(query));
+        // results.addAll(searchMetro(query));
+
+        // Sort by price (lowest first)
+        results.sort(Comparator.comparing(r -> r.price));
+
+        // Empty results are usually a scrape failure, so don't let them hide the item until the TTL expires
+        if (!results.isEmpty()) {
+            cache.put(normalize(query), new CachedPrices(List.copyOf(results), expiresAt));
+            if (cache.size() > maxEntries) {
+                evict();
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns fresh cached prices for a query, or null if there are none
+     */
+    public List<PriceResult> getCached(String query) {
+        CachedPrices entry = cache.get(normalize(query));
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAt) {
+            cache.remove(normalize(query), entry);
+            return null;
+        }
+        return new ArrayList<>(entry.results);
+    }
+
+    /**
+     * Drops expired entries; otherwise they stay until the same query is asked again
+     */
+    @Scheduled(fixedDelayString = "${prices.cache.purge-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(entry -> now >= entry.expiresAt);
+    }
+
+    // Over the bound: purge expired entries, then drop the ones closest to expiry.
+    // Pre-warmed prices live longest, so on-demand lookups go first.
+    private synchronized void evict() {
+        purgeExpired();
+        int excess = cache.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+        cache.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())
+                .forEach(cache::remove);
+    }
+
+    public boolean isWarm(String query) {
+        return getCached(query) != null;
+    }
+
+    /**
+     * True if the query is cached and will still be served at the given epoch millis
+     */
+    public boolean isWarmUntil(String query, long time) {
+        CachedPrices entry = cache.get(normalize(query));
+        return entry != null && entry.expiresAt >= time;
+    }
+
+    public static String normalize(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Search Walmart Canada: plain HTTP + jsoup first, headless browser only if that finds nothing
+     */
+    private List<PriceResult> searchWalmartCanada(String query, boolean allowBrowser) {
+        try {
+            List<PriceResult> results = walmartHttpScraper.search(query);
+            if (!results.isEmpty()) {
+                httpHits.incrementAndGet();
+                return results;
+            }
+        } catch (Exception e) {
+            httpErrors.incrementAndGet();
+            System.err.println("Walmart HTTP fetch error: " + e.getMessage());
+        }
+
+        if (!allowBrowser) {
+            misses.incrementAndGet();
+            return List.of();
+        }
+        List<PriceResult> results = walmartBrowserScraper.search(query);
+        if (results.isEmpty()) {
+            misses.incrementAndGet();
+        } else {
+            browserHits.incrementAndGet();
+        }
+        return results;
+    }
+
+    /**
+     * Hit counts and rates for the HTTP and browser fetch paths
+     */
+    public Map<String, Object> getFetchStats() {
+        long http = httpHits.get();
+        long browser = browserHits.get();
+        long missed = misses.get();
+        long total = http + browser + missed;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("lookups", total);
+        stats.put("http_hits", http);
+        stats.put("http_errors", httpErrors.get());
+        stats.put("browser_hits", browser);
+        stats.put("misses", missed);
+        stats.put("http_hit_rate", total == 0 ? 0.0 : (double) http / total);
+        stats.put("browser_hit_rate", total == 0 ? 0.0 : (double) browser / total);
+        stats.put("cached_queries", cache.size());
+        return stats;
+    }
+
+    /**
+     * Extract price from text like "$5.99" or "5.99"
+     */
+    static Double extractPrice(String priceText) {
+        if (priceText == null || priceText.isEmpty()) {
+            return null;
+        }
+
+        try {
+            // Remove currency symbols and whitespace
+            String cleaned = priceText.replaceAll("[^0-9.]", "");
+            return Double.parseDouble(cleaned);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -15,12 +15,14 @@ import java.util.Locale;
 public class RecipesExcelService {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    public RecipesExcelService(JdbcTemplate jdbcTemplate) {
+    public RecipesExcelService(JdbcTemplate jdbcTemplate, CatalogSnapshotService catalogSnapshotService) {
         this.jdbcTemplate = jdbcTemplate;
+        this.catalogSnapshotService = catalogSnapshotService;
     }
 
-    // This imports recipes.xlsx into a Postgres table named "foods"
+    // This imports recipes.xlsx into a Postgres table named "foods" and refreshes the binary catalog snapshot
     public void importExcelToPostgres() {
         String excelFileName = "recipes.xlsx";
         String tableName = "foods";
@@ -46,6 +48,11 @@ public class RecipesExcelService {
             // 2) Insert rows
             insertRows(sheet, tableName, columns);
 
+            // 3) Bump the catalog version so other nodes notice, then write a new snapshot
+            //    so every instance can boot from it without hitting Postgres
+            catalogSnapshotService.bumpDbVersion();
+            catalogSnapshotService.rebuildFromDatabase();
+
         } catch (Exception e) {
             throw new RuntimeException("Failed to import Excel into PostgreSQL: " + e.getMessage(), e);
         }
@@ -0,0 +1,96 @@
+package FoodApplication.service;
+
+import FoodApplication.model.PriceResult;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Slow path for Walmart Canada: drives a headless Chrome through Selenium.
+ * Only used when the plain HTTP fetch finds no products, so it is created
+ * (and chromedriver resolved) on first use rather than at startup.
+ */
+@Component
+@Lazy
+public class WalmartBrowserScraper {
+
+    private final String baseUrl;
+    private volatile boolean driverReady;
+
+    public WalmartBrowserScraper(@Value("${prices.walmart.base-url:https://www.walmart.ca}") String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    // WebDriverManager resolves/downloads chromedriver; once per process is enough
+    private void ensureDriver() {
+        if (!driverReady) {
+            synchronized (this) {
+                if (!driverReady) {
+                    WebDriverManager.chromedriver().setup();
+                    driverReady = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Search Walmart Canada
+     */
+    public List<PriceResult> search(String query) {
+        List<PriceResult> results = new ArrayList<>();
+
+        // 1. Setup Chrome in Headless mode (runs in background)
+        ensureDriver();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless");
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/121.0.0.0 Safari/537.36");
+
+        WebDriver driver = new ChromeDriver(options);
+
+        try {
+            String searchUrl = baseUrl + "/search?q=" + query.replace(" ", "+");
+            driver.get(searchUrl);
+
+            // 2. Wait up to 10 seconds for the product tiles to appear
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("div[data-testid='item-stack']")));
+
+            // 3. Find elements using Selenium (same logic, but better access)
+            List<WebElement> products = driver.findElements(By.cssSelector("div[data-testid='product-stack-tile']"));
+
+            for (int i = 0; i < Math.min(products.size(), 3); i++) {
+                WebElement product = products.get(i);
+                try {
+                    String name = product.findElement(By.cssSelector("span[data-automation='product-title']")).getText();
+                    String priceText = product.findElement(By.cssSelector("span[data-automation='item-price']")).getText();
+                    String link = product.findElement(By.tagName("a")).getAttribute("href");
+
+                    Double price = PriceService.extractPrice(priceText);
+                    if (price != null) {
+                        results.add(new PriceResult("Walmart", price, "each", "Local", "🏪", link));
+                    }
+                } catch (Exception e) {
+                    continue;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Selenium Error: " + e.getMessage());
+        } finally {
+            driver.quit(); // Always close the browser!
+        }
+        return results;
+    }
+}
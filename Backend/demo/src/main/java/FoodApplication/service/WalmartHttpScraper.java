@@ -0,0 +1,154 @@
+package FoodApplication.service;
+
+import FoodApplication.model.PriceResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fast path for Walmart Canada: one plain HTTP request parsed with jsoup,
+ * no browser. Prefers the embedded __NEXT_DATA__ JSON and falls back to the
+ * server-rendered product tiles.
+ */
+@Component
+public class WalmartHttpScraper {
+
+    private static final int MAX_RESULTS = 3;
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/121.0.0.0 Safari/537.36";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // HttpClient keeps its own connection pool, so one instance is shared by every search
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    public WalmartHttpScraper(
+            @Value("${prices.walmart.base-url:https://www.walmart.ca}") String baseUrl,
+            @Value("${prices.walmart.http-timeout-ms:5000}") long timeoutMs) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.requestTimeout = Duration.ofMillis(timeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Fetches and parses the search page; returns an empty list if nothing usable came back
+     */
+    public List<PriceResult> search(String query) throws Exception {
+        String searchUrl = baseUrl + "/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(searchUrl))
+                .timeout(requestTimeout)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml")
+                .header("Accept-Language", "en-CA,en;q=0.9")
+                .GET()
+                .build();
+
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return new ArrayList<>();
+        }
+        return parse(response.body(), baseUrl);
+    }
+
+    /**
+     * Extracts up to three priced products from a Walmart search page
+     */
+    public static List<PriceResult> parse(String html, String baseUrl) {
+        Document doc = Jsoup.parse(html, baseUrl);
+
+        List<PriceResult> results = parseNextData(doc, baseUrl);
+        if (results.isEmpty()) {
+            results = parseProductTiles(doc);
+        }
+        return results;
+    }
+
+    /**
+     * Reads props.pageProps.initialData.searchResult.itemStacks[].items[] from the __NEXT_DATA__ payload
+     */
+    private static List<PriceResult> parseNextData(Document doc, String baseUrl) {
+        List<PriceResult> results = new ArrayList<>();
+        Element script = doc.selectFirst("script#__NEXT_DATA__");
+        if (script == null) {
+            return results;
+        }
+
+        try {
+            JsonNode root = MAPPER.readTree(script.data());
+            JsonNode stacks = root.path("props").path("pageProps").path("initialData")
+                    .path("searchResult").path("itemStacks");
+
+            for (JsonNode stack : stacks) {
+                for (JsonNode item : stack.path("items")) {
+                    if (results.size() >= MAX_RESULTS) {
+                        return results;
+                    }
+                    Double price = itemPrice(item);
+                    if (price == null) continue;
+
+                    String link = item.path("canonicalUrl").asText("");
+                    if (link.startsWith("/")) {
+                        link = baseUrl + link;
+                    }
+                    results.add(new PriceResult("Walmart", price, "each", "Local", "🏪", link));
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Walmart __NEXT_DATA__ parse error: " + e.getMessage());
+        }
+        return results;
+    }
+
+    // Search items carry either a numeric "price" or a "priceInfo.linePrice" string like "$5.97"
+    private static Double itemPrice(JsonNode item) {
+        JsonNode price = item.path("price");
+        if (price.isNumber()) {
+            return price.asDouble();
+        }
+        JsonNode priceInfo = item.path("priceInfo");
+        String text = priceInfo.path("linePrice").asText(priceInfo.path("currentPrice").path("priceString").asText(""));
+        return PriceService.extractPrice(text);
+    }
+
+    /**
+     * Same selectors the Selenium path uses, applied to the server-rendered HTML
+     */
+    private static List<PriceResult> parseProductTiles(Document doc) {
+        List<PriceResult> results = new ArrayList<>();
+        Elements products = doc.select("div[data-testid=product-stack-tile]");
+
+        for (Element product : products) {
+            if (results.size() >= MAX_RESULTS) break;
+
+            Element priceEl = product.selectFirst("span[data-automation=item-price]");
+            Element linkEl = product.selectFirst("a[href]");
+            if (priceEl == null) continue;
+
+            Double price = PriceService.extractPrice(priceEl.text());
+            if (price != null) {
+                String link = linkEl == null ? "" : linkEl.absUrl("href");
+                results.add(new PriceResult("Walmart", price, "each", "Local", "🏪", link));
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,126 @@
+package FoodApplication.service;
+
+import FoodApplication.model.BasketResult;
+import FoodApplication.model.PriceResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BasketServiceTest {
+
+    private static final List<String> ITEMS = List.of("milk", "eggs", "bread", "saffron");
+
+    // Nobody sells saffron
+    private static Map<String, List<PriceResult>> prices() {
+        Map<String, List<PriceResult>> prices = new HashMap<>();
+        prices.put("milk", List.of(offer("A", 3.00), offer("B", 2.50), offer("C", 4.00)));
+        prices.put("eggs", List.of(offer("A", 4.00), offer("B", 5.00)));
+        prices.put("bread", List.of(offer("A", 2.00), offer("C", 1.00), offer("C", 1.50)));
+        return prices;
+    }
+
+    private static PriceResult offer(String store, double price) {
+        return new PriceResult(store, price, "each", "Local", "🏪", "https://example.com/" + store);
+    }
+
+    private static BasketResult assign(List<String> items, Map<String, List<PriceResult>> prices, Integer maxStores) {
+        BasketResult result = new BasketResult();
+        BasketService.assign(items, prices, maxStores, result);
+        return result;
+    }
+
+    private static void assertTotal(double expected, BasketResult result) {
+        assertEquals(expected, (double) result.total, 1e-9);
+    }
+
+    private static String storeOf(BasketResult result, String item) {
+        return result.assignments.stream().filter(a -> a.item.equals(item)).findFirst().map(a -> a.store).orElse(null);
+    }
+
+    @Test
+    void unlimitedBuysEachItemAtItsCheapestStore() {
+        BasketResult result = assign(ITEMS, prices(), null);
+
+        assertTotal(7.50, result);
+        assertEquals("B", storeOf(result, "milk"));
+        assertEquals("A", storeOf(result, "eggs"));
+        assertEquals("C", storeOf(result, "bread"));
+        assertEquals(List.of("B", "A", "C"), result.stores);
+    }
+
+    @Test
+    void zeroMaxStoresMeansUnlimited() {
+        assertTotal(7.50, assign(ITEMS, prices(), 0));
+    }
+
+    @Test
+    void singleStorePicksTheStoreCoveringMostItems() {
+        BasketResult result = assign(ITEMS, prices(), 1);
+
+        // A is the only store with milk, eggs and bread, even though B and C are cheaper for some of them
+        assertEquals(List.of("A"), result.stores);
+        assertTotal(9.00, result);
+        assertEquals(3, result.assignments.size());
+    }
+
+    @Test
+    void twoStoresPicksTheCheapestFullCoveringPair() {
+        BasketResult result = assign(ITEMS, prices(), 2);
+
+        // A+B = 8.50, A+C = 8.00, B+C = 8.50
+        assertEquals(List.of("A", "C"), result.stores);
+        assertTotal(8.00, result);
+        assertEquals("A", storeOf(result, "milk"));
+    }
+
+    @Test
+    void maxStoresAboveStoreCountUsesEveryStore() {
+        assertTotal(7.50, assign(ITEMS, prices(), 10));
+    }
+
+    @Test
+    void itemsWithNoPricesAreUnavailable() {
+        for (Integer maxStores : new Integer[]{null, 1, 2}) {
+            BasketResult result = assign(ITEMS, prices(), maxStores);
+            assertEquals(List.of("saffron"), result.unavailable);
+        }
+    }
+
+    @Test
+    void itemOnlySoldOutsideTheChosenStoresIsUnavailable() {
+        Map<String, List<PriceResult>> prices = prices();
+        prices.put("tofu", List.of(offer("B", 3.00)));
+        List<String> items = List.of("milk", "eggs", "bread", "tofu");
+
+        BasketResult result = assign(items, prices, 1);
+
+        // B also covers three items but costs 10.50; A costs 9.00
+        assertEquals(List.of("A"), result.stores);
+        assertEquals(List.of("tofu"), result.unavailable);
+    }
+
+    @Test
+    void manyStoresFallBackToGreedyAndStillCoverEverything() {
+        // 40 stores choose 5 is too many combinations for the exhaustive search
+        List<String> items = new ArrayList<>();
+        Map<String, List<PriceResult>> prices = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            String item = "item" + i;
+            items.add(item);
+            prices.put(item, List.of(offer("Mega", 2.00), offer("Store" + i, 1.00)));
+        }
+
+        BasketResult result = assign(items, prices, 5);
+
+        assertTrue(result.unavailable.isEmpty());
+        assertEquals(5, result.stores.size());
+        assertTrue(result.stores.contains("Mega"));
+        assertTotal(80.00 - 4, result);
+    }
+}
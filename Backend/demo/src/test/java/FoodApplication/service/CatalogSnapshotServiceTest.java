@@ -0,0 +1,117 @@
+package FoodApplication.service;
+
+import FoodApplication.model.Food;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotServiceTest {
+
+    private static Food food(long id, String name, String mainNutrition, List<String> ingredients,
+                             List<String> recipes, List<String> recommendations, List<String> tags) {
+        Food food = new Food(name, mainNutrition, ingredients, recipes, recommendations, tags);
+        food.setId(id);
+        return food;
+    }
+
+    private static List<Food> catalog() {
+        return List.of(
+                food(1, "Crème brûlée", "Calcium", List.of("crème", "œufs"), List.of("Bake at 150°C"),
+                        List.of(), List.of("dessert")),
+                food(2, "寿司 🍣", "Omega-3", List.of("rice", "salmon"), List.of(), List.of("Eat fresh"), List.of()),
+                food(3, null, null, List.of(), List.of(), List.of(), List.of()),
+                food(4, "Lentil soup", "Calcium", List.of("lentils"), List.of("Simmer"), List.of(), List.of("vegan")));
+    }
+
+    private static Path tempSnapshot() throws IOException {
+        Path dir = Files.createTempDirectory("catalog-test");
+        return dir.resolve("catalog.snapshot");
+    }
+
+    @Test
+    void roundTripKeepsEveryField() throws IOException {
+        Path path = tempSnapshot();
+        List<Food> foods = catalog();
+
+        CatalogSnapshotService.write(path, 42L, foods);
+        CatalogSnapshotService.Catalog read = CatalogSnapshotService.read(path);
+
+        assertEquals(42L, read.dbVersion);
+        assertEquals(foods.size(), read.foods.size());
+        for (int i = 0; i < foods.size(); i++) {
+            Food expected = foods.get(i);
+            Food actual = read.foods.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getMainNutrition(), actual.getMainNutrition());
+            assertEquals(expected.getIngredients(), actual.getIngredients());
+            assertEquals(expected.getRecipes(), actual.getRecipes());
+            assertEquals(expected.getRecommendations(), actual.getRecommendations());
+            assertEquals(expected.getTags(), actual.getTags());
+            assertEquals(actual, read.byId.get(actual.getId()));
+        }
+    }
+
+    @Test
+    void nullsAndNonAsciiSurviveTheRoundTrip() throws IOException {
+        Path path = tempSnapshot();
+        CatalogSnapshotService.write(path, 1L, catalog());
+        CatalogSnapshotService.Catalog read = CatalogSnapshotService.read(path);
+
+        assertEquals("Crème brûlée", read.byId.get(1L).getName());
+        assertEquals("寿司 🍣", read.byId.get(2L).getName());
+        assertNull(read.byId.get(3L).getName());
+        assertNull(read.byId.get(3L).getMainNutrition());
+        assertTrue(read.byId.get(3L).getIngredients().isEmpty());
+    }
+
+    @Test
+    void categoryIndexSkipsFoodsWithoutACategory() throws IOException {
+        Path path = tempSnapshot();
+        CatalogSnapshotService.write(path, 1L, catalog());
+        CatalogSnapshotService.Catalog read = CatalogSnapshotService.read(path);
+
+        assertEquals(2, read.byNutrition.size());
+        assertEquals(List.of(1L, 4L), read.byNutrition.get("Calcium").stream().map(Food::getId).toList());
+        assertEquals(List.of(2L), read.byNutrition.get("Omega-3").stream().map(Food::getId).toList());
+    }
+
+    @Test
+    void emptyCatalogRoundTrips() throws IOException {
+        Path path = tempSnapshot();
+        CatalogSnapshotService.write(path, 0L, List.of());
+        CatalogSnapshotService.Catalog read = CatalogSnapshotService.read(path);
+
+        assertTrue(read.foods.isEmpty());
+        assertTrue(read.byNutrition.isEmpty());
+    }
+
+    @Test
+    void rewritingReplacesAFileThatWasJustRead() throws IOException {
+        Path path = tempSnapshot();
+        CatalogSnapshotService.write(path, 1L, catalog());
+        CatalogSnapshotService.read(path);
+
+        CatalogSnapshotService.write(path, 2L, catalog().subList(0, 1));
+
+        CatalogSnapshotService.Catalog read = CatalogSnapshotService.read(path);
+        assertEquals(2L, read.dbVersion);
+        assertEquals(1, read.foods.size());
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path path = tempSnapshot();
+        Files.write(path, new byte[64]);
+
+        assertThrows(IOException.class, () -> CatalogSnapshotService.read(path));
+    }
+}
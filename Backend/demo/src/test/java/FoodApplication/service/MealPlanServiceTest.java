@@ -0,0 +1,90 @@
+package FoodApplication.service;
+
+import FoodApplication.model.Food;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MealPlanServiceTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    // Every food is a candidate for every slot; slot costs come from the given rows
+    private static MealPlanService.Problem problem(double[][] slotCost) {
+        int n = slotCost[0].length;
+        MealPlanService.Problem p = new MealPlanService.Problem();
+        p.foods = Collections.nCopies(n, new Food());
+        p.slotTarget = new String[slotCost.length];
+        p.candidates = new int[slotCost.length][];
+        for (int s = 0; s < slotCost.length; s++) {
+            p.slotTarget[s] = "protein";
+            p.candidates[s] = IntStream.range(0, n).toArray();
+        }
+        p.slotCost = slotCost;
+        return p;
+    }
+
+    private static MealPlanService.Solution run(MealPlanService.Problem p, long seed, long millis) {
+        long start = System.nanoTime();
+        return MealPlanService.search(p, new SplittableRandom(seed), start, start + millis * MILLIS);
+    }
+
+    @Test
+    void scoreAddsRepeatPenaltyForEveryExtraUse() {
+        MealPlanService.Problem p = problem(new double[][] {{1, 2}, {1, 2}, {1, 2}, {1, 2}});
+        assertEquals(4 + 3 * MealPlanService.REPEAT_PENALTY, MealPlanService.score(p, new int[] {0, 0, 0, 0}), 1e-9);
+        assertEquals(6 + 2 * MealPlanService.REPEAT_PENALTY, MealPlanService.score(p, new int[] {0, 1, 0, 1}), 1e-9);
+    }
+
+    @Test
+    void incrementalScoreMatchesRecomputedScore() {
+        SplittableRandom costs = new SplittableRandom(7);
+        for (long seed = 1; seed <= 5; seed++) {
+            double[][] slotCost = new double[14][9];
+            for (double[] row : slotCost) {
+                for (int f = 0; f < row.length; f++) row[f] = costs.nextDouble(-50, 1000);
+            }
+            MealPlanService.Problem p = problem(slotCost);
+
+            MealPlanService.Solution best = run(p, seed, 20);
+            assertTrue(best.iterations > 0);
+            assertEquals(MealPlanService.score(p, best.assignment), best.score, 1e-6);
+        }
+    }
+
+    @Test
+    void avoidsRepeatsWhenThereAreEnoughFoods() {
+        double[][] slotCost = new double[7][7];
+        for (int s = 0; s < 7; s++) {
+            for (int f = 0; f < 7; f++) slotCost[s][f] = f == s ? 0 : 10;
+        }
+        MealPlanService.Solution best = run(problem(slotCost), 42, 50);
+
+        assertEquals(0, best.score, 1e-9);
+        assertEquals(7, IntStream.of(best.assignment).distinct().count());
+    }
+
+    @Test
+    void spreadsRepeatsWhenFoodsRunOut() {
+        // 7 slots over 3 foods: at least 4 repeats, whichever foods are used
+        MealPlanService.Solution best = run(problem(new double[7][3]), 42, 50);
+        assertEquals(4 * MealPlanService.REPEAT_PENALTY, best.score, 1e-9);
+    }
+
+    @Test
+    void passedDeadlineStillReturnsAValidAssignment() {
+        MealPlanService.Problem p = problem(new double[][] {{1, 2, 3}, {3, 2, 1}});
+        long now = System.nanoTime();
+
+        MealPlanService.Solution best = MealPlanService.search(p, new SplittableRandom(1), now - 10 * MILLIS, now - MILLIS);
+
+        assertEquals(0, best.iterations);
+        assertEquals(2, best.assignment.length);
+        assertEquals(MealPlanService.score(p, best.assignment), best.score, 1e-9);
+    }
+}
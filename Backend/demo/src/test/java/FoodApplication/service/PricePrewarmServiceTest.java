@@ -0,0 +1,70 @@
+package FoodApplication.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PricePrewarmServiceTest {
+
+    private static PricePrewarmService window(String start, String end) {
+        return new PricePrewarmService(null, null, 10, 0, 0, start, end);
+    }
+
+    private static ZonedDateTime at(int day, int hour, int minute) {
+        return ZonedDateTime.of(2026, 3, day, hour, minute, 0, 0, ZoneOffset.UTC);
+    }
+
+    @Test
+    void inWindowIncludesStartAndExcludesEnd() {
+        PricePrewarmService service = window("02:00", "06:00");
+
+        assertTrue(service.inWindow(LocalTime.of(2, 0)));
+        assertTrue(service.inWindow(LocalTime.of(5, 59)));
+        assertFalse(service.inWindow(LocalTime.of(6, 0)));
+        assertFalse(service.inWindow(LocalTime.of(1, 59)));
+        assertFalse(service.inWindow(LocalTime.of(18, 0)));
+    }
+
+    @Test
+    void inWindowWrapsPastMidnight() {
+        PricePrewarmService service = window("23:00", "05:00");
+
+        assertTrue(service.inWindow(LocalTime.of(23, 30)));
+        assertTrue(service.inWindow(LocalTime.of(0, 0)));
+        assertTrue(service.inWindow(LocalTime.of(4, 59)));
+        assertFalse(service.inWindow(LocalTime.of(5, 0)));
+        assertFalse(service.inWindow(LocalTime.of(12, 0)));
+        assertFalse(service.inWindow(LocalTime.of(22, 59)));
+    }
+
+    @Test
+    void endOfNextWindowBeforeTodaysWindowIsTodaysEnd() {
+        assertEquals(at(10, 6, 0), window("02:00", "06:00").endOfNextWindow(at(10, 1, 0)));
+    }
+
+    @Test
+    void endOfNextWindowDuringOrAfterTodaysWindowIsTomorrowsEnd() {
+        PricePrewarmService service = window("02:00", "06:00");
+
+        // A run that started at 02:00 keeps its prices through the evening and until the next run ends
+        assertEquals(at(11, 6, 0), service.endOfNextWindow(at(10, 2, 0)));
+        assertEquals(at(11, 6, 0), service.endOfNextWindow(at(10, 2, 30)));
+        assertEquals(at(11, 6, 0), service.endOfNextWindow(at(10, 18, 0)));
+    }
+
+    @Test
+    void endOfNextWindowWrapsPastMidnight() {
+        PricePrewarmService service = window("23:00", "05:00");
+
+        assertEquals(at(11, 5, 0), service.endOfNextWindow(at(10, 22, 0)));
+        // Inside the window that started at 23:00 the next window starts tomorrow at 23:00
+        assertEquals(at(12, 5, 0), service.endOfNextWindow(at(10, 23, 30)));
+        assertEquals(at(11, 5, 0), service.endOfNextWindow(at(10, 3, 0)));
+    }
+}
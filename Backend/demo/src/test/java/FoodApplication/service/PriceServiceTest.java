@@ -0,0 +1,100 @@
+package FoodApplication.service;
+
+import FoodApplication.model.PriceResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PriceServiceTest {
+
+    private final WalmartHttpScraper http = mock(WalmartHttpScraper.class);
+    private final WalmartBrowserScraper browser = mock(WalmartBrowserScraper.class);
+    private final PriceService priceService = new PriceService(http, browser, 720, 3);
+
+    private static PriceResult offer(double price) {
+        return new PriceResult("Walmart", price, "each", "Local", "🏪", "https://www.walmart.ca/ip/x");
+    }
+
+    @Test
+    void httpResultsSkipTheBrowser() throws Exception {
+        when(http.search("milk")).thenReturn(List.of(offer(5.97)));
+
+        assertEquals(5.97, priceService.search("milk").get(0).price);
+        verifyNoInteractions(browser);
+    }
+
+    @Test
+    void emptyHttpResultFallsBackToTheBrowser() throws Exception {
+        when(http.search("milk")).thenReturn(List.of());
+        when(browser.search("milk")).thenReturn(List.of(offer(6.47)));
+
+        assertEquals(6.47, priceService.search("milk").get(0).price);
+        verify(browser).search("milk");
+    }
+
+    @Test
+    void searchWithoutBrowserNeverStartsTheBrowser() throws Exception {
+        when(http.search("saffron")).thenReturn(List.of());
+
+        assertTrue(priceService.searchWithoutBrowser("saffron").isEmpty());
+        verify(browser, never()).search("saffron");
+    }
+
+    @Test
+    void freshResultsAreServedFromTheCache() throws Exception {
+        when(http.search("milk")).thenReturn(List.of(offer(5.97)));
+
+        priceService.search("milk");
+        priceService.search(" Milk ");
+
+        verify(http, times(1)).search("milk");
+    }
+
+    @Test
+    void cacheKeepsAtMostMaxEntriesDroppingTheSoonestToExpire() throws Exception {
+        for (String q : List.of("milk", "eggs", "bread", "rice")) {
+            when(http.search(q)).thenReturn(List.of(offer(1.0)));
+        }
+        long now = System.currentTimeMillis();
+        priceService.refresh("milk", now + 60_000);
+        priceService.refresh("eggs", now + 10_000);
+        priceService.refresh("bread", now + 60_000);
+        priceService.refresh("rice", now + 60_000);
+
+        assertEquals(3, priceService.getFetchStats().get("cached_queries"));
+        assertNull(priceService.getCached("eggs"));
+        assertTrue(priceService.isWarm("milk"));
+    }
+
+    @Test
+    void purgeDropsExpiredEntries() throws Exception {
+        when(http.search("milk")).thenReturn(List.of(offer(1.0)));
+        when(http.search("eggs")).thenReturn(List.of(offer(1.0)));
+        priceService.refresh("milk", System.currentTimeMillis() - 1);
+        priceService.refresh("eggs", System.currentTimeMillis() + 60_000);
+
+        priceService.purgeExpired();
+
+        assertEquals(1, priceService.getFetchStats().get("cached_queries"));
+    }
+
+    @Test
+    void emptyResultsAreNotCached() throws Exception {
+        when(http.search("saffron")).thenReturn(List.of());
+        when(browser.search("saffron")).thenReturn(List.of());
+
+        priceService.search("saffron");
+
+        assertNull(priceService.getCached("saffron"));
+    }
+}
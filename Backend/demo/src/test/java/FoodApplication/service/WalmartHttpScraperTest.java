@@ -0,0 +1,70 @@
+package FoodApplication.service;
+
+import FoodApplication.model.PriceResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WalmartHttpScraperTest {
+
+    private static final String BASE_URL = "https://www.walmart.ca";
+
+    private static String fixture(String name) throws IOException {
+        try (InputStream in = WalmartHttpScraperTest.class.getResourceAsStream("/walmart/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<Double> prices(List<PriceResult> results) {
+        return results.stream().map(r -> r.price).toList();
+    }
+
+    private static List<String> urls(List<PriceResult> results) {
+        return results.stream().map(r -> r.productUrl).toList();
+    }
+
+    @Test
+    void readsNextDataBeforeProductTiles() throws IOException {
+        List<PriceResult> results = WalmartHttpScraper.parse(fixture("next-data.html"), BASE_URL);
+
+        // Unpriced items are skipped, linePrice and currentPrice strings are parsed, and at most three come back
+        assertEquals(List.of(5.97, 6.47, 4.27), prices(results));
+        assertEquals(List.of(
+                "https://www.walmart.ca/ip/2-milk-4-l/6000191277261",
+                "https://www.walmart.ca/ip/lactose-free-milk-2-l/6000191277263",
+                "https://www.walmart.ca/ip/oat-beverage-1-75-l/6000191277264"), urls(results));
+        assertTrue(results.stream().allMatch(r -> "Walmart".equals(r.store)));
+    }
+
+    @Test
+    void fallsBackToProductTilesWithAbsoluteLinks() throws IOException {
+        List<PriceResult> results = WalmartHttpScraper.parse(fixture("tiles-only.html"), BASE_URL);
+
+        // Tiles without a price or with a non-numeric one are skipped
+        assertEquals(List.of(3.48, 8.97), prices(results));
+        assertEquals(List.of(
+                "https://www.walmart.ca/ip/large-eggs-12/6000191277301",
+                "https://www.walmart.ca/ip/large-eggs-30/6000191277304"), urls(results));
+    }
+
+    @Test
+    void pageWithoutProductsParsesToEmpty() throws IOException {
+        // An empty result is what makes PriceService try the browser
+        assertTrue(WalmartHttpScraper.parse(fixture("no-products.html"), BASE_URL).isEmpty());
+    }
+
+    @Test
+    void relativeLinksUseTheConfiguredBaseUrl() throws IOException {
+        List<PriceResult> results = WalmartHttpScraper.parse(fixture("next-data.html"), "http://localhost:18090");
+
+        assertEquals("http://localhost:18090/ip/2-milk-4-l/6000191277261", results.get(0).productUrl);
+        // Absolute canonical URLs are kept as they are
+        assertEquals("https://www.walmart.ca/ip/lactose-free-milk-2-l/6000191277263", results.get(1).productUrl);
+    }
+}
@@ -0,0 +1,80 @@
+package FoodLoadTest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Per-endpoint throughput, latency and error rate saved as a .properties file,
+ * and the comparison that decides whether a run regressed.
+ */
+public class Baseline {
+
+    private Baseline() {
+    }
+
+    public static Properties fromStats(Collection<EndpointStats> stats, double seconds) {
+        Properties props = new Properties();
+        for (EndpointStats s : stats) {
+            if (s.count() == 0) continue;
+            props.setProperty(s.name + ".throughput", format(s.count() / seconds));
+            props.setProperty(s.name + ".p50.ms", format(s.percentileMs(50)));
+            props.setProperty(s.name + ".p99.ms", format(s.percentileMs(99)));
+            props.setProperty(s.name + ".error.rate", format(s.errorRate()));
+        }
+        return props;
+    }
+
+    public static void save(Properties props, Path path, String comment) throws IOException {
+        try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            props.store(out, comment);
+        }
+    }
+
+    public static Properties load(Path path) throws IOException {
+        Properties props = new Properties();
+        try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            props.load(in);
+        }
+        return props;
+    }
+
+    /**
+     * Lists every endpoint metric that is worse than the baseline by more than the allowed tolerance
+     */
+    public static List<String> regressions(Properties baseline, Properties current, double latencyTolerance,
+                                           double throughputTolerance, double errorRateTolerance) {
+        List<String> problems = new ArrayList<>();
+        for (String key : baseline.stringPropertyNames()) {
+            double expected = Double.parseDouble(baseline.getProperty(key));
+            String actualText = current.getProperty(key);
+            if (actualText == null) {
+                problems.add(key + ": no samples in this run");
+                continue;
+            }
+            double actual = Double.parseDouble(actualText);
+
+            if (key.endsWith(".ms") && actual > expected * (1 + latencyTolerance)) {
+                problems.add(String.format(Locale.ROOT, "%s: %.2f ms vs baseline %.2f ms", key, actual, expected));
+            } else if (key.endsWith(".throughput") && actual < expected * (1 - throughputTolerance)) {
+                problems.add(String.format(Locale.ROOT, "%s: %.2f req/s vs baseline %.2f req/s", key, actual, expected));
+            } else if (key.endsWith(".error.rate") && actual > expected + errorRateTolerance) {
+                problems.add(String.format(Locale.ROOT, "%s: %.4f vs baseline %.4f", key, actual, expected));
+            }
+        }
+        problems.sort(null);
+        return problems;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
@@ -0,0 +1,55 @@
+package FoodLoadTest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and error count for one endpoint of the traffic mix
+ */
+public class EndpointStats {
+
+    public final String name;
+
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private int errors;
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long latencyMicros, boolean error) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = latencyMicros;
+        if (error) errors++;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized int errors() {
+        return errors;
+    }
+
+    public synchronized double errorRate() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    /**
+     * Latency at the given percentile (0-100) in milliseconds
+     */
+    public synchronized double percentileMs(double percentile) {
+        if (count == 0) return 0;
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))] / 1000.0;
+    }
+
+    public synchronized void reset() {
+        count = 0;
+        errors = 0;
+    }
+}
@@ -0,0 +1,414 @@
+package FoodLoadTest;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays the frontend's traffic mix against a running food-api at a fixed
+ * arrival rate and reports throughput, latency percentiles and error rate per
+ * endpoint, then compares the run with a baseline recorded earlier on the same
+ * machine. No baseline is committed; the first run with --write-baseline creates it.
+ *
+ * Usage: LoadTest [--write-baseline]
+ * Exits with status 1 when any endpoint regressed beyond the configured tolerance.
+ */
+public class LoadTest {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern HOUSEHOLD_PATTERN = Pattern.compile("\"household_id\"\\s*:\\s*(\\d+)");
+    private static final String[] GROCERIES = {
+            "milk", "bread", "eggs", "chicken breast", "salmon", "banana", "rice", "pasta",
+            "tomatoes", "spinach", "cheddar", "yogurt", "olive oil", "lemon", "oats", "apples"
+    };
+
+    /**
+     * One user created during seeding and their household
+     */
+    private static class SeedUser {
+        final String id;
+        final int householdId;
+
+        SeedUser(String id, int householdId) {
+            this.id = id;
+            this.householdId = householdId;
+        }
+    }
+
+    /**
+     * One entry of the traffic mix: builds a request, or returns null when it has nothing to act on yet
+     */
+    private static class Scenario {
+        final String name;
+        final int weight;
+        final Function<SeedUser, HttpRequest.Builder> request;
+
+        Scenario(String name, int weight, Function<SeedUser, HttpRequest.Builder> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+    }
+
+    private final Properties config;
+    private final String baseUrl;
+    private final double priceMissRatio;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(32))
+            .build();
+
+    private final List<SeedUser> users = new ArrayList<>();
+    private final List<Long> foodIds = new ArrayList<>();
+    // Ids seen in inventory / needed listings, consumed by the delete scenarios
+    private final ConcurrentLinkedQueue<String> inventoryIds = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> neededIds = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadTest(Properties config) {
+        this.config = config;
+        this.baseUrl = config.getProperty("base.url");
+        this.priceMissRatio = Double.parseDouble(config.getProperty("prices.cache.miss.ratio", "0"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Properties config = new Properties();
+        try (InputStream in = LoadTest.class.getResourceAsStream("/loadtest.properties")) {
+            config.load(in);
+        }
+        config.putAll(System.getProperties());
+
+        boolean writeBaseline = List.of(args).contains("--write-baseline");
+        System.exit(new LoadTest(config).run(writeBaseline));
+    }
+
+    public int run(boolean writeBaseline) throws Exception {
+        StubStoreServer store = new StubStoreServer(intProp("stub.store.port"), longProp("stub.store.delay.ms", 50));
+        store.start();
+        try {
+            seed();
+            List<Scenario> mix = scenarios();
+
+            System.out.println("Warming up for " + config.getProperty("warmup.seconds") + " s");
+            drive(mix, intProp("warmup.seconds"));
+            stats.values().forEach(EndpointStats::reset);
+
+            int seconds = intProp("duration.seconds");
+            System.out.println("Running " + config.getProperty("rate") + " req/s for " + seconds + " s");
+            drive(mix, seconds);
+
+            return report(seconds, writeBaseline);
+        } finally {
+            store.stop();
+        }
+    }
+
+    // ----- Seeding -----
+
+    /**
+     * Imports recipes.xlsx if the catalog is empty and creates users with households through the API
+     */
+    private void seed() throws Exception {
+        loadFoodIds();
+        if (foodIds.isEmpty()) {
+            System.out.println("Catalog is empty, importing recipes.xlsx");
+            send(HttpRequest.newBuilder(uri("/api/foods/import")).GET());
+            loadFoodIds();
+        }
+        if (foodIds.isEmpty()) {
+            throw new IllegalStateException("No foods available after import; is the database reachable?");
+        }
+
+        int count = intProp("seed.users");
+        for (int i = 0; i < count; i++) {
+            String id = UUID.randomUUID().toString();
+            String body = String.format(Locale.ROOT,
+                    "{\"id\":\"%s\",\"email\":\"load%d@example.test\",\"username\":\"load%d\",\"first_name\":\"Load%d\"}",
+                    id, i, i, i);
+            String response = send(HttpRequest.newBuilder(uri("/api/users/profile"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            Matcher m = HOUSEHOLD_PATTERN.matcher(response);
+            if (!m.find()) {
+                throw new IllegalStateException("Could not create seed user: " + response);
+            }
+            SeedUser user = new SeedUser(id, Integer.parseInt(m.group(1)));
+            users.add(user);
+
+            // A short shopping list per household, like a real user would have
+            for (int j = 0; j < 3; j++) {
+                send(neededAdd(user));
+            }
+        }
+        System.out.println("Seeded " + users.size() + " users, catalog has " + foodIds.size() + " foods");
+    }
+
+    private void loadFoodIds() throws Exception {
+        foodIds.clear();
+        Matcher m = ID_PATTERN.matcher(send(HttpRequest.newBuilder(uri("/api/foods")).GET()));
+        while (m.find()) {
+            foodIds.add(Long.parseLong(m.group(1)));
+        }
+    }
+
+    // ----- Traffic mix (mirrors frontend/nutrient-navigator-main/src/services/api.ts) -----
+
+    private List<Scenario> scenarios() {
+        List<Scenario> all = List.of(
+                new Scenario("foods_list", weight("foods_list"), u -> get("/api/foods")),
+                new Scenario("food_by_id", weight("food_by_id"), u -> get("/api/foods/" + randomFood())),
+                new Scenario("foods_search", weight("foods_search"), u -> get("/api/foods/search?name=" + encode(randomSearchTerm()))),
+                new Scenario("household_get", weight("household_get"), u -> get("/api/users/" + u.id + "/household")),
+                new Scenario("favorites_get", weight("favorites_get"), u -> get("/api/users/" + u.id + "/favorites")),
+                new Scenario("favorite_add", weight("favorite_add"), u -> HttpRequest.newBuilder(uri("/api/users/" + u.id + "/favorites/" + randomFood()))
+                        .POST(HttpRequest.BodyPublishers.noBody())),
+                new Scenario("favorite_remove", weight("favorite_remove"), u -> HttpRequest.newBuilder(uri("/api/users/" + u.id + "/favorites/" + randomFood()))
+                        .DELETE()),
+                new Scenario("inventory_get", weight("inventory_get"), u -> get("/api/users/household/" + u.householdId + "/inventory")),
+                new Scenario("inventory_add", weight("inventory_add"), u -> postJson("/api/users/household/" + u.householdId + "/inventory",
+                        String.format("{\"name\":\"%s\",\"quantity\":\"1\",\"category\":\"Pantry\",\"added_by\":\"%s\"}", randomGrocery(), u.id))),
+                new Scenario("inventory_delete", weight("inventory_delete"), u -> deleteSeen(inventoryIds, "/api/users/household/inventory/")),
+                new Scenario("needed_get", weight("needed_get"), u -> get("/api/users/household/" + u.householdId + "/needed")),
+                new Scenario("needed_add", weight("needed_add"), this::neededAdd),
+                new Scenario("needed_delete", weight("needed_delete"), u -> deleteSeen(neededIds, "/api/users/household/needed/")),
+                new Scenario("prices_search", weight("prices_search"), u -> get("/api/prices/search?query=" + encode(randomPriceQuery()))),
+                new Scenario("dashboard", weight("dashboard"), u -> get("/api/users/" + u.id + "/dashboard"))
+        );
+
+        List<Scenario> mix = new ArrayList<>();
+        for (Scenario s : all) {
+            if (s.weight > 0) {
+                mix.add(s);
+                stats.put(s.name, new EndpointStats(s.name));
+            }
+        }
+        return mix;
+    }
+
+    private HttpRequest.Builder neededAdd(SeedUser u) {
+        return postJson("/api/users/household/" + u.householdId + "/needed",
+                String.format("{\"name\":\"%s\",\"added_by\":\"%s\"}", randomGrocery(), u.id));
+    }
+
+    private HttpRequest.Builder deleteSeen(ConcurrentLinkedQueue<String> ids, String path) {
+        String id = ids.poll();
+        return id == null ? null : HttpRequest.newBuilder(uri(path + id)).DELETE();
+    }
+
+    // ----- Driver -----
+
+    /**
+     * Open-model load: requests start on a fixed schedule whether or not earlier ones finished,
+     * and latency is measured from the scheduled start so queueing delay is not hidden.
+     */
+    private void drive(List<Scenario> mix, int seconds) throws InterruptedException {
+        double rate = Double.parseDouble(config.getProperty("rate"));
+        long periodNanos = (long) (1_000_000_000L / rate);
+        int maxInFlight = intProp("max.in.flight");
+        int totalWeight = mix.stream().mapToInt(s -> s.weight).sum();
+
+        long start = System.nanoTime();
+        AtomicLong tick = new AtomicLong();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        scheduler.scheduleAtFixedRate(() -> {
+            long now = System.nanoTime();
+            // Catch up on ticks missed while the scheduler thread was delayed
+            while (start + tick.get() * periodNanos <= now) {
+                long intended = start + tick.getAndIncrement() * periodNanos;
+                fire(pick(mix, totalWeight), intended, maxInFlight);
+            }
+        }, 0, Math.max(1, periodNanos / 1000), TimeUnit.MICROSECONDS);
+
+        Thread.sleep(seconds * 1000L);
+        scheduler.shutdownNow();
+
+        // Let in-flight requests finish so they are counted
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (inFlight.get() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void fire(Scenario scenario, long intendedNanos, int maxInFlight) {
+        EndpointStats endpoint = stats.get(scenario.name);
+        SeedUser user = users.get(ThreadLocalRandom.current().nextInt(users.size()));
+        HttpRequest.Builder builder = scenario.request.apply(user);
+        if (builder == null) {
+            return;
+        }
+        // Past this point the client is saturated; count it as a failed request instead of queueing forever
+        if (inFlight.get() >= maxInFlight) {
+            endpoint.record((System.nanoTime() - intendedNanos) / 1000, true);
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        client.sendAsync(builder.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    long micros = (System.nanoTime() - intendedNanos) / 1000;
+                    boolean failed = error != null || response.statusCode() >= 400;
+                    endpoint.record(micros, failed);
+                    if (!failed) {
+                        collectIds(scenario.name, response.body());
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private void collectIds(String scenario, String body) {
+        ConcurrentLinkedQueue<String> target = scenario.equals("inventory_get") ? inventoryIds
+                : scenario.equals("needed_get") ? neededIds : null;
+        if (target == null || target.size() > 10_000) return;
+        Matcher m = ID_PATTERN.matcher(body);
+        // Only take the first id so two listings of the same household rarely queue the same row twice
+        if (m.find()) {
+            target.add(m.group(1));
+        }
+    }
+
+    private Scenario pick(List<Scenario> mix, int totalWeight) {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario s : mix) {
+            r -= s.weight;
+            if (r < 0) return s;
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    // ----- Reporting -----
+
+    private int report(int seconds, boolean writeBaseline) throws Exception {
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-18s %8s %10s %9s %9s %9s %9s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "errors");
+        for (EndpointStats s : stats.values()) {
+            System.out.printf(Locale.ROOT, "%-18s %8d %10.2f %9.2f %9.2f %9.2f %9.2f %7.2f%%%n",
+                    s.name, s.count(), s.count() / (double) seconds, s.percentileMs(50), s.percentileMs(90),
+                    s.percentileMs(99), s.percentileMs(100), s.errorRate() * 100);
+        }
+
+        Properties current = Baseline.fromStats(stats.values(), seconds);
+        Path target = Paths.get("target");
+        Files.createDirectories(target);
+        Baseline.save(current, target.resolve("loadtest-report.properties"), "Load test report");
+
+        Path baselinePath = Paths.get(config.getProperty("baseline.file"));
+        if (writeBaseline) {
+            Baseline.save(current, baselinePath, "Load test baseline at " + config.getProperty("rate") + " req/s");
+            System.out.println("\nWrote baseline to " + baselinePath.toAbsolutePath());
+            return 0;
+        }
+        if (!Files.exists(baselinePath)) {
+            System.out.println("\nNo baseline at " + baselinePath.toAbsolutePath() + ", run with --write-baseline to create one");
+            return 0;
+        }
+
+        List<String> regressions = Baseline.regressions(Baseline.load(baselinePath), current,
+                doubleProp("tolerance.latency"), doubleProp("tolerance.throughput"), doubleProp("tolerance.error.rate"));
+        if (regressions.isEmpty()) {
+            System.out.println("\nNo regressions against " + baselinePath);
+            return 0;
+        }
+        System.out.println("\nRegressions against " + baselinePath + ":");
+        regressions.forEach(r -> System.out.println("  " + r));
+        return 1;
+    }
+
+    // ----- Helpers -----
+
+    private String send(HttpRequest.Builder builder) throws Exception {
+        HttpResponse<String> response = client.send(builder.timeout(Duration.ofSeconds(120)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(response.request().uri() + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest.Builder postJson(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private long randomFood() {
+        return foodIds.get(ThreadLocalRandom.current().nextInt(foodIds.size()));
+    }
+
+    private String randomGrocery() {
+        return GROCERIES[ThreadLocalRandom.current().nextInt(GROCERIES.length)];
+    }
+
+    // A share of price searches uses a query the app has never seen, so they miss the price
+    // cache and go through the HTTP fetch path to the stub store instead of all being cache hits
+    private String randomPriceQuery() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String grocery = randomGrocery();
+        if (random.nextDouble() < priceMissRatio) {
+            return grocery + " " + random.nextInt(1_000_000_000);
+        }
+        return grocery;
+    }
+
+    private String randomSearchTerm() {
+        String grocery = randomGrocery();
+        return grocery.substring(0, Math.min(4, grocery.length()));
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private int weight(String scenario) {
+        return Integer.parseInt(config.getProperty("mix." + scenario, "0"));
+    }
+
+    private int intProp(String key) {
+        return Integer.parseInt(config.getProperty(key));
+    }
+
+    private long longProp(String key, long defaultValue) {
+        String value = config.getProperty(key);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    private double doubleProp(String key) {
+        return Double.parseDouble(config.getProperty(key));
+    }
+}
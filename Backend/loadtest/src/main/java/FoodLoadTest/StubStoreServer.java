@@ -0,0 +1,109 @@
+package FoodLoadTest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+
+/**
+ * Local stand-in for walmart.ca. Answers /search?q=... with a page shaped like
+ * the real one (a __NEXT_DATA__ payload plus product tiles) so the app's HTTP
+ * fast path parses it without ever leaving the machine.
+ */
+public class StubStoreServer {
+
+    private final HttpServer server;
+    private final long delayMs;
+
+    public StubStoreServer(int port, long delayMs) throws IOException {
+        this.delayMs = delayMs;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        this.server.createContext("/search", this::handleSearch);
+        this.server.setExecutor(Executors.newFixedThreadPool(16));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        String query = queryParam(exchange.getRequestURI().getRawQuery(), "q");
+
+        // Simulated store response time
+        if (delayMs > 0) {
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] body = page(query).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Three products with prices derived from the query, so repeated runs see the same data
+     */
+    static String page(String query) {
+        String slug = query.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        int seed = query.toLowerCase(Locale.ROOT).hashCode() & 0x7fffffff;
+
+        StringBuilder items = new StringBuilder();
+        StringBuilder tiles = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            double price = 1.0 + ((seed >> (i * 4)) % 900) / 100.0;
+            String name = query + " option " + (i + 1);
+            String url = "/ip/" + slug + "-" + (i + 1) + "/" + (seed + i);
+
+            if (i > 0) items.append(',');
+            items.append(String.format(Locale.ROOT,
+                    "{\"name\":\"%s\",\"price\":%.2f,\"canonicalUrl\":\"%s\"}", escapeJson(name), price, url));
+            tiles.append(String.format(Locale.ROOT,
+                    "<div data-testid=\"product-stack-tile\"><a href=\"%s\">"
+                            + "<span data-automation=\"product-title\">%s</span>"
+                            + "<span data-automation=\"item-price\">$%.2f</span></a></div>",
+                    url, escapeHtml(name), price));
+        }
+
+        return "<!DOCTYPE html><html><head><title>Search</title></head><body>"
+                + "<div data-testid=\"item-stack\">" + tiles + "</div>"
+                + "<script id=\"__NEXT_DATA__\" type=\"application/json\">"
+                + "{\"props\":{\"pageProps\":{\"initialData\":{\"searchResult\":{\"itemStacks\":[{\"items\":["
+                + items + "]}]}}}}}"
+                + "</script></body></html>";
+    }
+
+    private static String queryParam(String rawQuery, String name) {
+        if (rawQuery == null) return "";
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static String escapeJson(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("<", "\\u003c");
+    }
+
+    private static String escapeHtml(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,73 @@
+-- Household tables and helper function for a local load-test database.
+-- The foods table is created by GET /api/foods/import from recipes.xlsx.
+--   createdb menu_loadtest && psql -d menu_loadtest -f schema.sql
+
+CREATE TABLE IF NOT EXISTS user_profiles (
+    id UUID PRIMARY KEY,
+    email TEXT,
+    username TEXT,
+    first_name TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS households (
+    id SERIAL PRIMARY KEY,
+    name TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS household_members (
+    household_id INTEGER NOT NULL REFERENCES households(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES user_profiles(id) ON DELETE CASCADE,
+    PRIMARY KEY (household_id, user_id)
+);
+
+CREATE TABLE IF NOT EXISTS user_favorites (
+    user_id UUID NOT NULL REFERENCES user_profiles(id) ON DELETE CASCADE,
+    recipe_id BIGINT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (user_id, recipe_id)
+);
+
+CREATE TABLE IF NOT EXISTS household_inventory (
+    id SERIAL PRIMARY KEY,
+    household_id INTEGER NOT NULL REFERENCES households(id) ON DELETE CASCADE,
+    name TEXT NOT NULL,
+    quantity TEXT,
+    category TEXT,
+    added_by UUID,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS household_needed_items (
+    id SERIAL PRIMARY KEY,
+    household_id INTEGER NOT NULL REFERENCES households(id) ON DELETE CASCADE,
+    name TEXT NOT NULL,
+    added_by UUID,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS household_inventory_household_idx ON household_inventory (household_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS household_needed_items_household_idx ON household_needed_items (household_id, created_at DESC);
+
+-- Same contract as the production helper: create the profile and a household for it, return the household id
+CREATE OR REPLACE FUNCTION create_user_household(p_user_id UUID, p_email TEXT, p_username TEXT, p_first_name TEXT)
+RETURNS INTEGER AS $$
+DECLARE
+    v_household_id INTEGER;
+BEGIN
+    INSERT INTO user_profiles (id, email, username, first_name)
+    VALUES (p_user_id, p_email, p_username, p_first_name)
+    ON CONFLICT (id) DO UPDATE SET email = EXCLUDED.email, username = EXCLUDED.username, first_name = EXCLUDED.first_name;
+
+    SELECT household_id INTO v_household_id FROM household_members WHERE user_id = p_user_id LIMIT 1;
+    IF v_household_id IS NULL THEN
+        INSERT INTO households (name) VALUES (COALESCE(p_first_name, p_username, 'My') || '''s Household')
+        RETURNING id INTO v_household_id;
+        INSERT INTO household_members (household_id, user_id) VALUES (v_household_id, p_user_id);
+    END IF;
+
+    RETURN v_household_id;
+END;
+$$ LANGUAGE plpgsql;
@@ -100,6 +100,7 @@ export function AuthProvider({ children }: { children: ReactNode }) {
     for (const recipeId of localFavorites) {
       await fetch(`${import.meta.env.VITE_API_BASE_URL || "http://localhost:8080"}/api/users/${userId}/favorites/${recipeId}`, {
         method: "POST",
+        credentials: "include",
       })
     }
 
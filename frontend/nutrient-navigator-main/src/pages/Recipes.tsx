@@ -105,7 +105,7 @@ export default function Recipes({ isDark, toggleDarkMode, favorites, setFavorite
 
         // Fetch favorites from backend if logged in
         if (userId) {
-          const res = await fetch(`${API_BASE_URL}/api/users/${userId}/favorites`);
+          const res = await fetch(`${API_BASE_URL}/api/users/${userId}/favorites`, { credentials: "include" });
           if (res.ok) {
             const favIds: number[] = await res.json();
             setFavorites(favIds);
@@ -134,7 +134,10 @@ export default function Recipes({ isDark, toggleDarkMode, favorites, setFavorite
     }
 
     const method = favorites.includes(recipeId) ? "DELETE" : "POST";
-    const res = await fetch(`${API_BASE_URL}/api/users/${userId}/favorites/${recipeId}`, { method });
+    const res = await fetch(`${API_BASE_URL}/api/users/${userId}/favorites/${recipeId}`, {
+      method,
+      credentials: "include",
+    });
 
     if (res.ok) {
       setFavorites(prev =>
@@ -2,6 +2,9 @@
 
 const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080';
 
+// /api/users calls use credentials: "include" so the backend's last_write cookie is
+// stored and sent back; reads right after a write then stay on the primary database.
+
 export interface Food {
   id: number;
   name: string;
@@ -44,6 +47,7 @@ export const getUserFavorites = async (userId: string): Promise<number[]> => {
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/${userId}/favorites`, {
       method: "GET",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -65,6 +69,7 @@ export const addFavorite = async (userId: string, recipeId: number): Promise<voi
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/${userId}/favorites/${recipeId}`, {
       method: "POST",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -83,6 +88,7 @@ export const removeFavorite = async (userId: string, recipeId: number): Promise<
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/${userId}/favorites/${recipeId}`, {
       method: "DELETE",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -108,6 +114,7 @@ export const getUserHousehold = async (userId: string): Promise<Household> => {
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/${userId}/household`, {
       method: "GET",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -132,6 +139,7 @@ export const getHouseholdInventory = async (householdId: number): Promise<Househ
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/household/${householdId}/inventory`, {
       method: "GET",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -162,6 +170,7 @@ export const addInventoryItem = async (
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/household/${householdId}/inventory`, {
       method: "POST",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -189,6 +198,7 @@ export const deleteInventoryItem = async (itemId: number): Promise<void> => {
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/household/inventory/${itemId}`, {
       method: "DELETE",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -210,6 +220,7 @@ export const getHouseholdNeededItems = async (householdId: number): Promise<Hous
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/household/${householdId}/needed`, {
       method: "GET",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -238,6 +249,7 @@ export const addNeededItem = async (
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/household/${householdId}/needed`, {
       method: "POST",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },
@@ -263,6 +275,7 @@ export const deleteNeededItem = async (itemId: number): Promise<void> => {
   try {
     const response = await fetch(`${API_BASE_URL}/api/users/household/needed/${itemId}`, {
       method: "DELETE",
+      credentials: "include",
       headers: {
         "Content-Type": "application/json",
       },